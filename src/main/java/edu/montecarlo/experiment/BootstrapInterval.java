@@ -0,0 +1,79 @@
+package edu.montecarlo.experiment;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Percentile bootstrap confidence interval for the mean of a sample.
+ */
+public class BootstrapInterval {
+
+    public static final int DEFAULT_RESAMPLES = 2_000;
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final double mean;
+    private final double lower;
+    private final double upper;
+    private final double confidence;
+
+    public BootstrapInterval(double mean, double lower, double upper, double confidence) {
+        this.mean = mean;
+        this.lower = lower;
+        this.upper = upper;
+        this.confidence = confidence;
+    }
+
+    public static BootstrapInterval of(double[] values, long seed) {
+        return of(values, DEFAULT_RESAMPLES, DEFAULT_CONFIDENCE, seed);
+    }
+
+    /**
+     * Resamples {@code values} with replacement {@code resamples} times and
+     * takes the (1 - confidence) / 2 and (1 + confidence) / 2 percentiles of
+     * the resampled means.
+     */
+    public static BootstrapInterval of(double[] values, int resamples, double confidence, long seed) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Cannot bootstrap an empty sample");
+        }
+
+        double mean = Arrays.stream(values).average().orElse(0.0);
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] means = new double[resamples];
+        for (int b = 0; b < resamples; b++) {
+            double sum = 0;
+            for (int i = 0; i < values.length; i++) {
+                sum += values[random.nextInt(values.length)];
+            }
+            means[b] = sum / values.length;
+        }
+        Arrays.sort(means);
+
+        double alpha = (1 - confidence) / 2;
+        int lowIndex = (int) Math.floor(alpha * (resamples - 1));
+        int highIndex = (int) Math.ceil((1 - alpha) * (resamples - 1));
+        return new BootstrapInterval(mean, means[lowIndex], means[highIndex], confidence);
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.6f [%.6f, %.6f] (%.0f%% CI)",
+                mean, lower, upper, confidence * 100);
+    }
+}
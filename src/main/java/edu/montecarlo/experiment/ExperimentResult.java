@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import edu.montecarlo.model.SimulationConfig;
+import edu.montecarlo.model.TaskMetrics;
 
 
 public class ExperimentResult {
@@ -19,6 +20,30 @@ public class ExperimentResult {
     private double averageError = 0.0;
     private List<ExperimentResult> trialResults = new ArrayList<>();
 
+    // CPU accounting (from the estimator's per-task ThreadMXBean metrics)
+    private List<TaskMetrics> taskMetrics = new ArrayList<>();
+    private Long elapsedNanos;
+    private Double cpuTimeMs;
+    private Long allocatedBytes;
+    private Double parallelEfficiency;
+    private Double cpuEfficiency;
+    private Double loadImbalance;
+    private Double oversubscription;
+    private Double overheadMs;
+    private Double pointsPerCpuSecond;
+    private Double pointsPerSecond;
+
+    // Scaling model fits across the thread sweep for this N
+    private Double amdahlSerialFraction;
+    private Double gustafsonSerialFraction;
+
+    // True when this cell ran in its own forked JVM
+    private boolean isolated;
+
+    // Bootstrap confidence intervals over the trials (replica mode)
+    private BootstrapInterval estimateInterval;
+    private BootstrapInterval runtimeInterval;
+
 
     public ExperimentResult(SimulationConfig config, double piEstimate,
                             long runtimeMs, String estimatorType) {
@@ -62,6 +87,90 @@ public class ExperimentResult {
         return trialResults;
     }
     
+    public List<TaskMetrics> getTaskMetrics() {
+        return taskMetrics;
+    }
+
+    /** Wall time of the run in nanoseconds, or null if only milliseconds are known. */
+    public Long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** Total CPU time summed over all tasks, or null if not measurable. */
+    public Double getCpuTimeMs() {
+        return cpuTimeMs;
+    }
+
+    /** Total bytes allocated by all tasks, or null if not measurable. */
+    public Long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /** Speedup divided by thread count. */
+    public Double getParallelEfficiency() {
+        return parallelEfficiency;
+    }
+
+    /** Task CPU time over wall time times thread count. */
+    public Double getCpuEfficiency() {
+        return cpuEfficiency;
+    }
+
+    /** Busiest worker's CPU time over the mean CPU time per worker, minus one. */
+    public Double getLoadImbalance() {
+        return loadImbalance;
+    }
+
+    /**
+     * Share of the tasks' wall time spent off the CPU, e.g. descheduled
+     * because there are more workers than cores.
+     */
+    public Double getOversubscription() {
+        return oversubscription;
+    }
+
+    /** Wall time not spent inside the busiest worker (pool start-up, merge). */
+    public Double getOverheadMs() {
+        return overheadMs;
+    }
+
+    public Double getPointsPerCpuSecond() {
+        return pointsPerCpuSecond;
+    }
+
+    /** Wall-clock throughput of the run (or of the prefix, in a sweep). */
+    public Double getPointsPerSecond() {
+        return pointsPerSecond;
+    }
+
+    /** Serial fraction s fitted to Amdahl's law S(p) = 1 / (s + (1 - s) / p). */
+    public Double getAmdahlSerialFraction() {
+        return amdahlSerialFraction;
+    }
+
+    /**
+     * Serial fraction a fitted to Gustafson's law S(p) = p - a (p - 1).
+     * The fit uses fixed-N (strong-scaling) speedups, so it is only a proxy
+     * for the scaled-speedup fraction. Null when the fit falls outside [0, 1].
+     */
+    public Double getGustafsonSerialFraction() {
+        return gustafsonSerialFraction;
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    /** Bootstrap CI of the mean π estimate across trials, or null. */
+    public BootstrapInterval getEstimateInterval() {
+        return estimateInterval;
+    }
+
+    /** Bootstrap CI of the mean run time (ms) across trials, or null. */
+    public BootstrapInterval getRuntimeInterval() {
+        return runtimeInterval;
+    }
+
     public void setSpeedup(Double speedup) {
     this.speedup = speedup;
     }
@@ -74,12 +183,79 @@ public class ExperimentResult {
         this.trialResults = trialResults;
     }
 
+    public void setTaskMetrics(List<TaskMetrics> taskMetrics) {
+        this.taskMetrics = taskMetrics;
+    }
+
+    public void setElapsedNanos(Long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public void setCpuTimeMs(Double cpuTimeMs) {
+        this.cpuTimeMs = cpuTimeMs;
+    }
+
+    public void setAllocatedBytes(Long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public void setParallelEfficiency(Double parallelEfficiency) {
+        this.parallelEfficiency = parallelEfficiency;
+    }
+
+    public void setCpuEfficiency(Double cpuEfficiency) {
+        this.cpuEfficiency = cpuEfficiency;
+    }
+
+    public void setLoadImbalance(Double loadImbalance) {
+        this.loadImbalance = loadImbalance;
+    }
+
+    public void setOversubscription(Double oversubscription) {
+        this.oversubscription = oversubscription;
+    }
+
+    public void setOverheadMs(Double overheadMs) {
+        this.overheadMs = overheadMs;
+    }
+
+    public void setPointsPerCpuSecond(Double pointsPerCpuSecond) {
+        this.pointsPerCpuSecond = pointsPerCpuSecond;
+    }
+
+    public void setPointsPerSecond(Double pointsPerSecond) {
+        this.pointsPerSecond = pointsPerSecond;
+    }
+
+    public void setAmdahlSerialFraction(Double amdahlSerialFraction) {
+        this.amdahlSerialFraction = amdahlSerialFraction;
+    }
+
+    public void setGustafsonSerialFraction(Double gustafsonSerialFraction) {
+        this.gustafsonSerialFraction = gustafsonSerialFraction;
+    }
+
+    public void setIsolated(boolean isolated) {
+        this.isolated = isolated;
+    }
+
+    public void setEstimateInterval(BootstrapInterval estimateInterval) {
+        this.estimateInterval = estimateInterval;
+    }
+
+    public void setRuntimeInterval(BootstrapInterval runtimeInterval) {
+        this.runtimeInterval = runtimeInterval;
+    }
+
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("%s | %s | π ≈ %.6f | Error: %.6f | Time: %,d ms",
                 estimatorType, config, piEstimate, absoluteError, runtimeMs));
+        if (isolated) {
+            sb.append(" | forked JVM");
+        }
 
         if (!trialResults.isEmpty()) {
             sb.append("\n  Trials:\n");
@@ -90,6 +266,10 @@ public class ExperimentResult {
             }
             sb.append(String.format("    AVG → π ≈ %.6f | Avg Error: %.6f | Avg Time: %,d ms",
                     piEstimate, averageError, runtimeMs));
+            if (estimateInterval != null) {
+                sb.append(String.format("\n    CI  → π %s | Time %s", estimateInterval,
+                        runtimeInterval == null ? "n/a" : runtimeInterval + " ms"));
+            }
         }
 
         return sb.toString();
@@ -0,0 +1,67 @@
+package edu.montecarlo.experiment;
+
+import java.util.List;
+
+/**
+ * JVM settings for running experiment cells in fresh child JVMs.
+ */
+public class ForkOptions {
+
+    /** Unrecorded runs each child does before its measured trials. */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 3;
+
+    private final String maxHeap;
+    private final List<String> jvmFlags;
+    private final int trialsPerFork;
+    private final int warmupIterations;
+
+    public ForkOptions(String maxHeap, List<String> jvmFlags, int trialsPerFork) {
+        this(maxHeap, jvmFlags, trialsPerFork, DEFAULT_WARMUP_ITERATIONS);
+    }
+
+    /**
+     * @param maxHeap          value for {@code -Xmx} and {@code -Xms} (e.g. "512m"), or null for the JVM default
+     * @param jvmFlags         extra JVM flags such as GC selection ({@code -XX:+UseParallelGC})
+     * @param trialsPerFork    how many trials of one configuration share a child JVM
+     * @param warmupIterations unrecorded runs of the configuration before the first trial in each child
+     */
+    public ForkOptions(String maxHeap, List<String> jvmFlags, int trialsPerFork, int warmupIterations) {
+        if (trialsPerFork < 1) {
+            throw new IllegalArgumentException("trialsPerFork must be at least 1: " + trialsPerFork);
+        }
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("warmupIterations must not be negative: " + warmupIterations);
+        }
+        this.maxHeap = maxHeap;
+        this.jvmFlags = List.copyOf(jvmFlags);
+        this.trialsPerFork = trialsPerFork;
+        this.warmupIterations = warmupIterations;
+    }
+
+    /** One warmed-up child JVM per configuration with the JVM's default heap and GC. */
+    public static ForkOptions defaults() {
+        return new ForkOptions(null, List.of(), 1);
+    }
+
+    public String getMaxHeap() {
+        return maxHeap;
+    }
+
+    public List<String> getJvmFlags() {
+        return jvmFlags;
+    }
+
+    public int getTrialsPerFork() {
+        return trialsPerFork;
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Fork[heap=%s, flags=%s, trialsPerFork=%d, warmup=%d]",
+                maxHeap == null ? "default" : maxHeap, jvmFlags, trialsPerFork, warmupIterations);
+    }
+}
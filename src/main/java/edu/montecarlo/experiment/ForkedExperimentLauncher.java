@@ -0,0 +1,240 @@
+package edu.montecarlo.experiment;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.montecarlo.model.PiEstimator;
+import edu.montecarlo.model.SimulationConfig;
+
+/**
+ * Runs experiment cells in fresh child JVMs so that JIT profiles, GC state
+ * and heap warmth from earlier cells cannot skew later ones.
+ *
+ * <p>The child is this class's {@link #main}: it runs the requested trials
+ * in-process and writes one tab-separated {@code RESULT} line per trial to
+ * stdout, which the parent parses back into {@link ExperimentResult}s.
+ */
+public class ForkedExperimentLauncher {
+
+    private static final String RESULT_PREFIX = "RESULT\t";
+    private static final int RESULT_FIELDS = 11;
+    private static final String NONE = "-";
+
+    private final ForkOptions options;
+
+    public ForkedExperimentLauncher(ForkOptions options) {
+        this.options = options;
+    }
+
+    public ForkOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Runs one trial of one configuration per label, starting a new child
+     * JVM every {@link ForkOptions#getTrialsPerFork()} trials. Each result
+     * carries its label as estimator type.
+     */
+    public List<ExperimentResult> run(PiEstimator estimator, SimulationConfig config,
+                                      List<String> labels) {
+        List<ExperimentResult> results = new ArrayList<>();
+        while (results.size() < labels.size()) {
+            int batch = Math.min(labels.size() - results.size(), options.getTrialsPerFork());
+            results.addAll(runFork(estimator, config,
+                    labels.subList(results.size(), results.size() + batch)));
+        }
+        return results;
+    }
+
+    private List<ExperimentResult> runFork(PiEstimator estimator, SimulationConfig config,
+                                           List<String> labels) {
+        int trials = labels.size();
+        String type = labels.get(0);
+        ProcessBuilder builder = new ProcessBuilder(buildCommand(estimator, config, trials));
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        List<ExperimentResult> results = new ArrayList<>();
+        int received = 0;
+        try {
+            Process process = builder.start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX) && received++ < trials) {
+                        results.add(parseResult(line, config, labels.get(results.size())));
+                    }
+                }
+            }
+
+            int exitCode = process.waitFor();
+            if (exitCode != 0 || received != trials) {
+                throw new RuntimeException("Forked JVM for " + type + " exited with code " + exitCode
+                        + " after " + received + " of " + trials + " trials");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error starting forked JVM for " + type, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for forked JVM for " + type, e);
+        }
+        return results;
+    }
+
+    private List<String> buildCommand(PiEstimator estimator, SimulationConfig config, int trials) {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+
+        if (options.getMaxHeap() != null) {
+            command.add("-Xms" + options.getMaxHeap());
+            command.add("-Xmx" + options.getMaxHeap());
+        }
+        command.addAll(options.getJvmFlags());
+
+        // Launch the child the same way this JVM was launched: module path or class path.
+        String modulePath = System.getProperty("jdk.module.path");
+        Module module = ForkedExperimentLauncher.class.getModule();
+        if (modulePath != null && !modulePath.isEmpty() && module.isNamed()) {
+            command.add("--module-path");
+            command.add(modulePath);
+            command.add("--module");
+            command.add(module.getName() + "/" + ForkedExperimentLauncher.class.getName());
+        } else {
+            command.add("-cp");
+            command.add(childClassPath());
+            command.add(ForkedExperimentLauncher.class.getName());
+        }
+
+        command.add(estimator.getClass().getName());
+        command.add(Long.toString(config.getTotalPoints()));
+        command.add(Integer.toString(config.getNumTasks()));
+        command.add(Integer.toString(config.getNumThreads()));
+        command.add(Integer.toString(trials));
+        command.add(Integer.toString(options.getWarmupIterations()));
+        return command;
+    }
+
+    /**
+     * Class path for the child JVM. {@code java.class.path} alone is not
+     * enough: under {@code mvn exec:java} it only holds Maven's launcher, so
+     * the location this class was loaded from and the context class
+     * loader's URLs come first.
+     */
+    private static String childClassPath() {
+        Set<String> entries = new LinkedHashSet<>();
+
+        CodeSource codeSource = ForkedExperimentLauncher.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            addUrl(entries, codeSource.getLocation());
+        }
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            for (URL url : loader.getURLs()) {
+                addUrl(entries, url);
+            }
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void addUrl(Set<String> entries, URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return;
+        }
+        try {
+            entries.add(Paths.get(url.toURI()).toString());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // Not a plain file location; the class path fallback still applies.
+        }
+    }
+
+    private static String formatResult(ExperimentResult result) {
+        return RESULT_PREFIX + String.join("\t",
+                Double.toString(result.getPiEstimate()),
+                Long.toString(result.getRuntimeMs()),
+                orNone(result.getCpuTimeMs()),
+                orNone(result.getAllocatedBytes()),
+                orNone(result.getLoadImbalance()),
+                orNone(result.getOverheadMs()),
+                orNone(result.getPointsPerCpuSecond()),
+                orNone(result.getPointsPerSecond()),
+                orNone(result.getElapsedNanos()),
+                orNone(result.getCpuEfficiency()),
+                orNone(result.getOversubscription()));
+    }
+
+    private static ExperimentResult parseResult(String line, SimulationConfig config, String type) {
+        String[] fields = line.substring(RESULT_PREFIX.length()).split("\t");
+        if (fields.length != RESULT_FIELDS) {
+            throw new IllegalArgumentException("Malformed result from forked JVM: " + line);
+        }
+
+        ExperimentResult result = new ExperimentResult(config,
+                Double.parseDouble(fields[0]), Long.parseLong(fields[1]), type);
+        result.setCpuTimeMs(parseDouble(fields[2]));
+        result.setAllocatedBytes(NONE.equals(fields[3]) ? null : Long.valueOf(fields[3]));
+        result.setLoadImbalance(parseDouble(fields[4]));
+        result.setOverheadMs(parseDouble(fields[5]));
+        result.setPointsPerCpuSecond(parseDouble(fields[6]));
+        result.setPointsPerSecond(parseDouble(fields[7]));
+        result.setElapsedNanos(NONE.equals(fields[8]) ? null : Long.valueOf(fields[8]));
+        result.setCpuEfficiency(parseDouble(fields[9]));
+        result.setOversubscription(parseDouble(fields[10]));
+        result.setIsolated(true);
+        return result;
+    }
+
+    private static String orNone(Object value) {
+        return value == null ? NONE : value.toString();
+    }
+
+    private static Double parseDouble(String field) {
+        return NONE.equals(field) ? null : Double.valueOf(field);
+    }
+
+    /**
+     * Child JVM entry point:
+     * {@code <estimatorClass> <points> <tasks> <threads> <trials> <warmupIterations>}.
+     * Warm-up runs are not reported.
+     */
+    public static void main(String[] args) throws ReflectiveOperationException {
+        if (args.length != 6) {
+            System.err.println("Usage: ForkedExperimentLauncher <estimatorClass> <points> <tasks> <threads>"
+                    + " <trials> <warmupIterations>");
+            System.exit(2);
+        }
+
+        PiEstimator estimator = (PiEstimator) Class.forName(args[0])
+                .getDeclaredConstructor().newInstance();
+        SimulationConfig config = new SimulationConfig(
+                Long.parseLong(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        int trials = Integer.parseInt(args[4]);
+        int warmupIterations = Integer.parseInt(args[5]);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            estimator.estimatePi(config);
+        }
+
+        PiExperimentRunner runner = new PiExperimentRunner();
+        for (int i = 0; i < trials; i++) {
+            ExperimentResult result = runner.runExperiment(estimator, config, args[0]);
+            System.out.println(formatResult(result));
+        }
+        System.out.flush();
+    }
+}
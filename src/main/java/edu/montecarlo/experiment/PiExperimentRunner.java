@@ -1,12 +1,25 @@
 package edu.montecarlo.experiment;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
 
+import edu.montecarlo.model.ContinuousPiEstimator;
+import edu.montecarlo.model.EstimateSnapshot;
 import edu.montecarlo.model.ParallelPiEstimator;
 import edu.montecarlo.model.PiEstimator;
+import edu.montecarlo.model.PrefixCheckpoint;
+import edu.montecarlo.model.PrefixSweepEstimator;
+import edu.montecarlo.model.ReplicaPiEstimator;
+import edu.montecarlo.model.SimulationControl;
+import edu.montecarlo.model.ThrottleReport;
 import edu.montecarlo.model.SequentialPiEstimator;
 import edu.montecarlo.model.SimulationConfig;
+import edu.montecarlo.model.TaskMetrics;
 
 public class PiExperimentRunner {
 
@@ -16,11 +29,132 @@ public class PiExperimentRunner {
             String type
     ) {
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         double piEstimate = estimator.estimatePi(config);
+        long elapsedNanos = System.nanoTime() - startNanos;
         long endTime = System.currentTimeMillis();
 
         long runtime = endTime - startTime;
-        return new ExperimentResult(config, piEstimate, runtime, type);
+        ExperimentResult result = new ExperimentResult(config, piEstimate, runtime, type);
+        result.setElapsedNanos(elapsedNanos);
+        if (elapsedNanos > 0) {
+            result.setPointsPerSecond(config.getTotalPoints() / (elapsedNanos / 1e9));
+        }
+        applyCpuAccounting(result, estimator.getLastTaskMetrics());
+        return result;
+    }
+
+    /**
+     * Derives CPU time, allocation, load imbalance, oversubscription,
+     * merge/start-up overhead and points per CPU-second from the per-task
+     * metrics of one run.
+     */
+    private void applyCpuAccounting(ExperimentResult result, List<TaskMetrics> taskMetrics) {
+        result.setTaskMetrics(taskMetrics);
+        if (taskMetrics.isEmpty()) {
+            return;
+        }
+
+        long cpuNanos = 0;
+        long wallNanos = 0;
+        long allocated = 0;
+        boolean cpuKnown = true;
+        boolean allocKnown = true;
+        Map<Long, Long> busyNanosPerThread = new HashMap<>();
+        Map<Long, Long> cpuNanosPerThread = new HashMap<>();
+
+        for (TaskMetrics task : taskMetrics) {
+            cpuKnown &= task.getCpuNanos() >= 0;
+            allocKnown &= task.getAllocatedBytes() >= 0;
+            cpuNanos += task.getCpuNanos();
+            wallNanos += task.getWallNanos();
+            allocated += task.getAllocatedBytes();
+            busyNanosPerThread.merge(task.getThreadId(), task.getWallNanos(), Long::sum);
+            cpuNanosPerThread.merge(task.getThreadId(), task.getCpuNanos(), Long::sum);
+        }
+
+        // Workers that never picked up a task count as idle for the whole run.
+        int workers = Math.max(result.getConfig().getNumThreads(), busyNanosPerThread.size());
+
+        if (cpuKnown) {
+            result.setCpuTimeMs(cpuNanos / 1e6);
+            if (cpuNanos > 0) {
+                result.setPointsPerCpuSecond(result.getConfig().getTotalPoints() / (cpuNanos / 1e9));
+            }
+            Long elapsed = result.getElapsedNanos();
+            if (elapsed != null && elapsed > 0) {
+                result.setCpuEfficiency(cpuNanos / ((double) elapsed * workers));
+            }
+
+            // Imbalance uses CPU time so that a descheduled worker does not look busy;
+            // the time it spent off the CPU is reported as oversubscription instead.
+            long maxCpu = cpuNanosPerThread.values().stream().mapToLong(Long::longValue).max().orElse(0);
+            double meanCpu = cpuNanos / (double) workers;
+            if (meanCpu > 0) {
+                result.setLoadImbalance(maxCpu / meanCpu - 1.0);
+            }
+            if (wallNanos > 0) {
+                result.setOversubscription(Math.max(0.0, 1.0 - (double) cpuNanos / wallNanos));
+            }
+        }
+        if (allocKnown) {
+            result.setAllocatedBytes(allocated);
+        }
+
+        long maxBusy = busyNanosPerThread.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        result.setOverheadMs(Math.max(0.0, result.getRuntimeMs() - maxBusy / 1e6));
+    }
+
+    /**
+     * Least-squares fit of Amdahl's and Gustafson's serial fractions to the
+     * measured speedups of one N, stored on every parallel result of that N.
+     */
+    private void fitScalingModels(List<ExperimentResult> parallelResults) {
+        double amdahlNum = 0, amdahlDen = 0;
+        double gustafsonNum = 0, gustafsonDen = 0;
+
+        for (ExperimentResult result : parallelResults) {
+            Double speedup = result.getSpeedup();
+            int p = result.getConfig().getNumThreads();
+            if (speedup == null || !Double.isFinite(speedup) || speedup <= 0 || p < 2) {
+                continue;
+            }
+
+            // Amdahl: 1/S - 1/p = s (1 - 1/p)
+            double a = 1.0 / speedup - 1.0 / p;
+            double b = 1.0 - 1.0 / p;
+            amdahlNum += a * b;
+            amdahlDen += b * b;
+
+            // Gustafson: p - S = a (p - 1), fitted to fixed-N speedups (strong-scaling proxy)
+            gustafsonNum += (p - speedup) * (p - 1);
+            gustafsonDen += (double) (p - 1) * (p - 1);
+        }
+
+        if (amdahlDen == 0) {
+            return;
+        }
+
+        // A fraction outside [0, 1] means the model does not describe the data
+        // (e.g. super-linear speedup or pure overhead), so leave it unset.
+        Double serialFraction = fractionOrNull(amdahlNum / amdahlDen);
+        Double gustafsonFraction = fractionOrNull(gustafsonNum / gustafsonDen);
+        for (ExperimentResult result : parallelResults) {
+            result.setAmdahlSerialFraction(serialFraction);
+            result.setGustafsonSerialFraction(gustafsonFraction);
+        }
+    }
+
+    /** Baseline wall time over the result's, in nanoseconds when both are known. */
+    private static double speedup(ExperimentResult baseline, ExperimentResult result) {
+        if (baseline.getElapsedNanos() != null && result.getElapsedNanos() != null) {
+            return (double) baseline.getElapsedNanos() / result.getElapsedNanos();
+        }
+        return (double) baseline.getRuntimeMs() / result.getRuntimeMs();
+    }
+
+    private static Double fractionOrNull(double fraction) {
+        return fraction >= 0 && fraction <= 1 ? fraction : null;
     }
 
     public ExperimentResult runTrials(
@@ -29,15 +163,39 @@ public class PiExperimentRunner {
             String type,
             int numTrials
     ) {
-        List<ExperimentResult> trials = new ArrayList<>();
+        return runTrials(estimator, config, type, numTrials, null);
+    }
 
+    /**
+     * Same as {@link #runTrials(PiEstimator, SimulationConfig, String, int)};
+     * when {@code forkOptions} is non-null the trials run in child JVMs,
+     * {@link ForkOptions#getTrialsPerFork()} trials per JVM.
+     */
+    public ExperimentResult runTrials(
+            PiEstimator estimator,
+            SimulationConfig config,
+            String type,
+            int numTrials,
+            ForkOptions forkOptions
+    ) {
         System.out.println("---- Trials (" + numTrials + ") for "
                 + type + " | N=" + String.format("%,d", config.getTotalPoints())
-                + " | Threads=" + config.getNumThreads() + " ----");
+                + " | Threads=" + config.getNumThreads()
+                + (forkOptions == null ? "" : " | " + forkOptions) + " ----");
+
+        List<ExperimentResult> trials = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        for (int i = 1; i <= numTrials; i++) {
+            labels.add(type + " [Trial " + i + "]");
+        }
+        List<ExperimentResult> forkedTrials = forkOptions == null
+                ? null
+                : new ForkedExperimentLauncher(forkOptions).run(estimator, config, labels);
 
         for (int i = 1; i <= numTrials; i++) {
-            ExperimentResult result =
-                    runExperiment(estimator, config, type + " [Trial " + i + "]");
+            ExperimentResult result = forkedTrials == null
+                    ? runExperiment(estimator, config, labels.get(i - 1))
+                    : forkedTrials.get(i - 1);
             trials.add(result);
 
             System.out.println(String.format(
@@ -77,90 +235,496 @@ public class PiExperimentRunner {
         );
         avgResult.setAverageError(avgError);
         avgResult.setTrialResults(trials);
+        avgResult.setIsolated(forkOptions != null);
 
         return avgResult;
     }
 
+    /**
+     * Replica mode of {@link #runTrials}: all trials run together as
+     * independent seeded replicas on one shared pool (fused into a single
+     * pass for small N). Trial run times are each replica's share of the
+     * pool's work; a fused pass splits its time evenly, so its run-time
+     * interval collapses to a point. The returned average carries bootstrap
+     * confidence intervals for the estimate and the run time.
+     */
+    public ExperimentResult runReplicaTrials(
+            SimulationConfig config,
+            String type,
+            int numTrials,
+            long seed
+    ) {
+        System.out.println("---- Replica trials (" + numTrials + ") for "
+                + type + " | N=" + String.format("%,d", config.getTotalPoints())
+                + " | Threads=" + config.getNumThreads() + " | seed=" + seed + " ----");
+
+        long startTime = System.currentTimeMillis();
+        List<ReplicaPiEstimator.Replica> replicas =
+                new ReplicaPiEstimator().estimateReplicas(config, numTrials, seed);
+        long totalTime = System.currentTimeMillis() - startTime;
+
+        List<ExperimentResult> trials = new ArrayList<>();
+        double[] estimates = new double[numTrials];
+        double[] runtimes = new double[numTrials];
+        for (int i = 0; i < numTrials; i++) {
+            ReplicaPiEstimator.Replica replica = replicas.get(i);
+            estimates[i] = replica.getEstimate();
+            runtimes[i] = replica.getWorkNanos() / 1e6;
+
+            ExperimentResult result = new ExperimentResult(config, replica.getEstimate(),
+                    Math.round(runtimes[i]), type + " [Replica " + (i + 1) + "]");
+            trials.add(result);
+
+            System.out.println(String.format(
+                    "Replica %d | π = %.6f | Error = %.6f | Time = %.3f ms",
+                    i + 1,
+                    result.getPiEstimate(),
+                    result.getAbsoluteError(),
+                    runtimes[i]
+            ));
+        }
+
+        BootstrapInterval estimateInterval = BootstrapInterval.of(estimates, seed);
+        BootstrapInterval runtimeInterval = BootstrapInterval.of(runtimes, seed + 1);
+        double avgError = trials.stream()
+                .mapToDouble(ExperimentResult::getAbsoluteError)
+                .average()
+                .orElse(0.0);
+
+        System.out.println(String.format(
+                "AVG | π = %s | Avg Error = %.6f | Time = %s ms | %s, %,d ms total\n",
+                estimateInterval, avgError, runtimeInterval,
+                replicas.get(0).isFused() ? "fused pass" : "shared pool", totalTime
+        ));
+
+        ExperimentResult avgResult = new ExperimentResult(
+                config,
+                estimateInterval.getMean(),
+                Math.round(runtimeInterval.getMean()),
+                type + " (replicas)"
+        );
+        avgResult.setAverageError(avgError);
+        avgResult.setTrialResults(trials);
+        avgResult.setEstimateInterval(estimateInterval);
+        avgResult.setRuntimeInterval(runtimeInterval);
+
+        return avgResult;
+    }
+
+    /**
+     * Starts an elastic run with {@code initialThreads} workers, switches to
+     * {@code resizedThreads} once a third of the points are done, and prints
+     * the throughput before and after the resize.
+     */
+    public ExperimentResult runElasticResizeExperiment(
+            long points,
+            int initialThreads,
+            int resizedThreads
+    ) throws InterruptedException {
+        System.out.println("---- Elastic resize | N=" + String.format("%,d", points)
+                + " | Threads " + initialThreads + " → " + resizedThreads + " ----");
+
+        SimulationControl control = new SimulationControl();
+        ParallelPiEstimator estimator = new ParallelPiEstimator(control);
+        SimulationConfig config = new SimulationConfig(points, initialThreads * 2, initialThreads);
+
+        ExperimentResult[] result = new ExperimentResult[1];
+        Thread runThread = new Thread(() -> result[0] = runExperiment(
+                estimator, config, "Elastic(" + initialThreads + "→" + resizedThreads + " threads)"));
+        runThread.start();
+
+        while (runThread.isAlive() && control.getProcessedPoints() < points / 3) {
+            Thread.sleep(5);
+        }
+        control.setWorkerCount(resizedThreads);
+        runThread.join();
+
+        List<SimulationControl.Segment> segments = control.getSegments();
+        for (SimulationControl.Segment segment : segments) {
+            System.out.println(String.format(
+                    "Workers %2d | %,15d points | %,10.1f ms | %,8.1f Mpts/s",
+                    segment.getWorkers(),
+                    segment.getPoints(),
+                    segment.getNanos() / 1e6,
+                    segment.getPointsPerSecond() / 1e6
+            ));
+        }
+        if (segments.size() >= 2 && segments.get(0).getPointsPerSecond() > 0) {
+            System.out.println(String.format("Throughput change after resize: %.2fx",
+                    segments.get(segments.size() - 1).getPointsPerSecond()
+                            / segments.get(0).getPointsPerSecond()));
+        }
+        System.out.println(String.format("π = %.6f | Error = %.6f | Time = %d ms\n",
+                result[0].getPiEstimate(), result[0].getAbsoluteError(), result[0].getRuntimeMs()));
+
+        return result[0];
+    }
+
+    /**
+     * Runs {@code config} under a throttle and reports how closely the
+     * achieved rate held the requested cap, sampled every
+     * {@code sampleIntervalMs} and over the whole run.
+     */
+    public ExperimentResult runThrottledExperiment(
+            SimulationConfig config,
+            SimulationControl.ThrottleMode mode,
+            double target,
+            long sampleIntervalMs
+    ) throws InterruptedException {
+        System.out.println("---- Throttled " + mode + "=" + target
+                + " | N=" + String.format("%,d", config.getTotalPoints())
+                + " | Threads=" + config.getNumThreads() + " ----");
+
+        SimulationControl control = new SimulationControl();
+        control.setThrottle(mode, target);
+        ParallelPiEstimator estimator = new ParallelPiEstimator(control);
+
+        ExperimentResult[] result = new ExperimentResult[1];
+        Thread runThread = new Thread(() -> result[0] = runExperiment(
+                estimator, config, "Throttled(" + config.getNumThreads() + " threads)"));
+        runThread.start();
+
+        long lastPoints = 0;
+        long lastNanos = System.nanoTime();
+        while (runThread.isAlive()) {
+            runThread.join(sampleIntervalMs);
+            long points = control.getProcessedPoints();
+            long now = System.nanoTime();
+            if (runThread.isAlive()) {
+                System.out.println(String.format("  %,15d points | %,12.0f pts/s over last %d ms",
+                        points, (points - lastPoints) / ((now - lastNanos) / 1e9), sampleIntervalMs));
+            }
+            lastPoints = points;
+            lastNanos = now;
+        }
+
+        ThrottleReport report = control.getThrottleReport();
+        System.out.println(report);
+        System.out.println(String.format("π = %.6f | Error = %.6f | Time = %d ms\n",
+                result[0].getPiEstimate(), result[0].getAbsoluteError(), result[0].getRuntimeMs()));
+
+        return result[0];
+    }
+
     public List<ExperimentResult> runComprehensiveExperiments(
         long[] pointsList,
         int[] threadCounts
+) {
+    return runComprehensiveExperiments(pointsList, threadCounts, null);
+}
+
+    /**
+     * Same sweep as {@link #runComprehensiveExperiments(long[], int[])}; when
+     * {@code forkOptions} is non-null every cell runs in a fresh child JVM.
+     */
+    public List<ExperimentResult> runComprehensiveExperiments(
+        long[] pointsList,
+        int[] threadCounts,
+        ForkOptions forkOptions
 ) {
     List<ExperimentResult> results = new ArrayList<>();
+    ForkedExperimentLauncher launcher =
+            forkOptions == null ? null : new ForkedExperimentLauncher(forkOptions);
 
     PiEstimator sequentialEstimator = new SequentialPiEstimator();
     PiEstimator parallelEstimator = new ParallelPiEstimator();
 
+    // Unrecorded pass so the first baseline is not timed on a cold JIT.
+    if (launcher == null) {
+        long warmupPoints = Arrays.stream(pointsList).max().orElse(0);
+        parallelEstimator.estimatePi(new SimulationConfig(warmupPoints, 2, 1));
+    }
+
     for (long points : pointsList) {
 
-        // ---- Sequential baseline ----
+        // ---- Sequential reference ----
         SimulationConfig seqConfig = new SimulationConfig(points, 1, 1);
         ExperimentResult seqResult =
-                runExperiment(sequentialEstimator, seqConfig, "Sequential");
+                runCell(launcher, sequentialEstimator, seqConfig, "Sequential");
 
         results.add(seqResult);
 
+        // ---- Speedup baseline: same sampling kernel on one thread ----
+        SimulationConfig baseConfig = new SimulationConfig(points, 1, 1);
+        ExperimentResult baseResult =
+                runCell(launcher, parallelEstimator, baseConfig, "Parallel(1 thread)");
+
+        results.add(baseResult);
+
         // ---- Parallel runs ----
+        List<ExperimentResult> parallelResults = new ArrayList<>();
         for (int threads : threadCounts) {
             int tasks = threads * 2;
             SimulationConfig parConfig =
                     new SimulationConfig(points, tasks, threads);
 
             ExperimentResult parResult =
-                    runExperiment(
+                    runCell(
+                            launcher,
                             parallelEstimator,
                             parConfig,
                             "Parallel(" + threads + " threads)"
                     );
 
-            double speedup =
-                    (double) seqResult.getRuntimeMs() / parResult.getRuntimeMs();
+            double speedup = speedup(baseResult, parResult);
 
             parResult.setSpeedup(speedup);   // ✅ STORE SPEEDUP
+            parResult.setParallelEfficiency(speedup / threads);
 
             results.add(parResult);
+            parallelResults.add(parResult);
         }
+
+        fitScalingModels(parallelResults);
     }
 
     return results;
 }
 
+    /**
+     * Sweep variant of {@link #runComprehensiveExperiments(long[], int[])}:
+     * each thread count (and the single-threaded baseline) samples the
+     * largest N once from a seeded stream, and accuracy and timing for every
+     * smaller N come from the prefix checkpoints of that pass. With the same
+     * seed every configuration sees the same points, so estimates match
+     * across thread counts and only the timings differ.
+     */
+    public List<ExperimentResult> runPrefixSweepExperiments(
+            long[] pointsList,
+            int[] threadCounts,
+            long seed
+    ) {
+        PrefixSweepEstimator sweepEstimator = new PrefixSweepEstimator();
+
+        // One chunk size for the whole sweep, so every thread count samples the same points.
+        int chunkSize = PrefixSweepEstimator.chunkSizeFor(
+                Arrays.stream(pointsList).min().orElse(1),
+                Arrays.stream(threadCounts).max().orElse(1));
+
+        // Unrecorded pass so the sequential baseline is not timed on a cold JIT.
+        sweepEstimator.estimatePrefixes(pointsList, 1, chunkSize, seed);
+
+        List<PrefixCheckpoint> sequential = sweepEstimator.estimatePrefixes(pointsList, 1, chunkSize, seed);
+        List<List<PrefixCheckpoint>> parallel = new ArrayList<>();
+        for (int threads : threadCounts) {
+            parallel.add(sweepEstimator.estimatePrefixes(pointsList, threads, chunkSize, seed));
+        }
+
+        List<ExperimentResult> results = new ArrayList<>();
+        for (int k = 0; k < sequential.size(); k++) {
+            PrefixCheckpoint seqCheckpoint = sequential.get(k);
+            ExperimentResult seqResult = checkpointResult(seqCheckpoint,
+                    new SimulationConfig(seqCheckpoint.getPoints(), 1, 1), "Sequential (sweep)");
+            results.add(seqResult);
+
+            List<ExperimentResult> parallelResults = new ArrayList<>();
+            for (int t = 0; t < threadCounts.length; t++) {
+                int threads = threadCounts[t];
+                PrefixCheckpoint checkpoint = parallel.get(t).get(k);
+                ExperimentResult parResult = checkpointResult(checkpoint,
+                        new SimulationConfig(checkpoint.getPoints(), threads, threads),
+                        "Parallel(" + threads + " threads) sweep");
+
+                double speedup = (double) seqCheckpoint.getElapsedNanos() / checkpoint.getElapsedNanos();
+                parResult.setSpeedup(speedup);
+                parResult.setParallelEfficiency(speedup / threads);
+
+                results.add(parResult);
+                parallelResults.add(parResult);
+            }
+
+            fitScalingModels(parallelResults);
+        }
+
+        return results;
+    }
+
+    private ExperimentResult checkpointResult(PrefixCheckpoint checkpoint, SimulationConfig config, String type) {
+        ExperimentResult result = new ExperimentResult(config, checkpoint.getEstimate(),
+                checkpoint.getElapsedNanos() / 1_000_000, type);
+        result.setElapsedNanos(checkpoint.getElapsedNanos());
+        result.setPointsPerSecond(checkpoint.getPointsPerSecond());
+        return result;
+    }
+
+    private ExperimentResult runCell(ForkedExperimentLauncher launcher, PiEstimator estimator,
+                                     SimulationConfig config, String type) {
+        if (launcher == null) {
+            return runExperiment(estimator, config, type);
+        }
+        return launcher.run(estimator, config, List.of(type)).get(0);
+    }
+
     public void printResultsSummary(List<ExperimentResult> results) {
-        System.out.println("\n=== Experiment Summary ===");
-        System.out.println(String.format(
-                "%-25s | %-15s | %-12s | %-12s | %-10s | %-8s",
-                "Estimator", "Points", "π Estimate", "Error", "Time (ms)", "Speedup"
+        System.out.print(formatResultsSummary(results));
+    }
+
+    public String formatResultsSummary(List<ExperimentResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Experiment Summary ===\n");
+        sb.append(String.format(
+                "%-25s | %-15s | %-12s | %-12s | %-10s | %-8s | %-8s | %-10s | %-6s | %-7s | %-6s | %-7s | %-10s | %-10s | %-6s\n",
+                "Estimator", "Points", "π Estimate", "Error", "Time (ms)", "Speedup", "Mpts/s",
+                "CPU (ms)", "Eff", "CPU Eff", "Imbal", "Oversub", "Mpts/CPU-s", "Alloc (KB)", "JVM"
         ));
-        System.out.println("-".repeat(105));
-
-for (ExperimentResult result : results) {
-
-    String speedupStr =
-            result.getSpeedup() == null
-                    ? "-"
-                    : String.format("%.2fx", result.getSpeedup());
-
-    System.out.println(String.format(
-            "%-25s | %,15d | %.10f | %.10f | %,10d | %-8s",
-            result.getEstimatorType(),
-            result.getConfig().getTotalPoints(),
-            result.getPiEstimate(),
-            result.getAbsoluteError(),
-            result.getRuntimeMs(),
-            speedupStr
-    ));
-}
+        sb.append("-".repeat(210)).append("\n");
+
+        for (ExperimentResult result : results) {
+            sb.append(String.format(
+                    "%-25s | %,15d | %.10f | %.10f | %,10d | %-8s | %8s | %10s | %-6s | %-7s | %-6s | %-7s | %10s | %10s | %-6s\n",
+                    result.getEstimatorType(),
+                    result.getConfig().getTotalPoints(),
+                    result.getPiEstimate(),
+                    result.getAbsoluteError(),
+                    result.getRuntimeMs(),
+                    formatOrDash("%.2fx", result.getSpeedup()),
+                    formatOrDash("%,.1f", result.getPointsPerSecond() == null
+                            ? null : result.getPointsPerSecond() / 1e6),
+                    formatOrDash("%,.1f", result.getCpuTimeMs()),
+                    formatOrDash("%.0f%%", result.getParallelEfficiency() == null
+                            ? null : result.getParallelEfficiency() * 100),
+                    formatOrDash("%.0f%%", result.getCpuEfficiency() == null
+                            ? null : result.getCpuEfficiency() * 100),
+                    formatOrDash("%.0f%%", result.getLoadImbalance() == null
+                            ? null : result.getLoadImbalance() * 100),
+                    formatOrDash("%.0f%%", result.getOversubscription() == null
+                            ? null : result.getOversubscription() * 100),
+                    formatOrDash("%,.1f", result.getPointsPerCpuSecond() == null
+                            ? null : result.getPointsPerCpuSecond() / 1e6),
+                    formatOrDash("%,d", result.getAllocatedBytes() == null
+                            ? null : result.getAllocatedBytes() / 1024),
+                    result.isIsolated() ? "forked" : "shared"
+            ));
+        }
 
+        sb.append("\n=== Scaling Fits ===\n");
+        sb.append(String.format("%-15s | %-14s | %-16s | %-17s\n",
+                "Points", "Amdahl serial", "Amdahl max S", "Gustafson serial*"));
+        sb.append("-".repeat(71)).append("\n");
+
+        long lastPoints = -1;
+        for (ExperimentResult result : results) {
+            Double serial = result.getAmdahlSerialFraction();
+            Double gustafson = result.getGustafsonSerialFraction();
+            long points = result.getConfig().getTotalPoints();
+            if (result.getSpeedup() == null || result.getConfig().getNumThreads() < 2 || points == lastPoints) {
+                continue;
+            }
+            lastPoints = points;
+            String maxSpeedup = serial == null ? "-"
+                    : serial > 0 ? String.format("%.2fx", 1.0 / serial) : "unbounded";
+            sb.append(String.format("%,15d | %-14s | %-16s | %-17s\n",
+                    points,
+                    formatOrDash("%.4f", serial),
+                    maxSpeedup,
+                    formatOrDash("%.4f", gustafson)));
+        }
+        sb.append("- = fit outside [0, 1]; * fitted to fixed-N speedups, a strong-scaling proxy only\n");
+
+        return sb.toString();
     }
 
+    private static String formatOrDash(String format, Number value) {
+        return value == null ? "-" : String.format(format, value);
+    }
 
-    public static void main(String[] args) {
+
+    /**
+     * Tail mode: subscribes to a continuous estimate and prints one snapshot
+     * every {@code intervalMs}. Batches finished in between are coalesced by
+     * the publisher. Runs forever when {@code maxSnapshots} is 0.
+     */
+    public void tailContinuousEstimate(int threads, long intervalMs, long maxSnapshots)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        System.out.println("---- Continuous estimate | Threads=" + threads
+                + " | every " + intervalMs + " ms (Ctrl+C to stop) ----");
+
+        new ContinuousPiEstimator(threads).subscribe(new Flow.Subscriber<EstimateSnapshot>() {
+            private Flow.Subscription subscription;
+            private long received;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(EstimateSnapshot snapshot) {
+                received++;
+                System.out.println(String.format(
+                        "%,15d points | π = %.8f ± %.8f | Error = %.8f | %,.1f Mpts/s",
+                        snapshot.getPoints(),
+                        snapshot.getEstimate(),
+                        snapshot.getStandardError(),
+                        Math.abs(snapshot.getEstimate() - Math.PI),
+                        snapshot.getPoints() / (snapshot.getElapsedNanos() / 1e3)
+                ));
+
+                if (maxSnapshots > 0 && received >= maxSnapshots) {
+                    subscription.cancel();
+                    done.countDown();
+                    return;
+                }
+                try {
+                    Thread.sleep(intervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    subscription.cancel();
+                    done.countDown();
+                    return;
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                System.err.println("Continuous estimate failed: " + throwable);
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        done.await();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
         PiExperimentRunner runner = new PiExperimentRunner();
 
+        if (args.length > 0 && args[0].equals("--tail")) {
+            // Only a numeric second argument is a thread count; anything else is another flag.
+            int tailThreads = args.length > 1 && args[1].matches("[1-9]\\d{0,3}")
+                    ? Integer.parseInt(args[1])
+                    : Runtime.getRuntime().availableProcessors();
+            runner.tailContinuousEstimate(tailThreads, 500, 0);
+            return;
+        }
+
         long[] pointsList = {100_000, 1_000_000, 10_000_000};
         int[] threadCounts = {2, 4, 8};
 
-        List<ExperimentResult> batchResults =
-                runner.runComprehensiveExperiments(pointsList, threadCounts);
+        List<String> flags = Arrays.asList(args);
+        if (flags.contains("--isolated") && flags.contains("--sweep")) {
+            System.err.println("--isolated and --sweep cannot be combined: a sweep runs in-process");
+            System.exit(2);
+        }
+
+        // --isolated runs every cell in its own child JVM
+        ForkOptions forkOptions = flags.contains("--isolated")
+                ? ForkOptions.defaults()
+                : null;
+
+        // --sweep samples the largest N once per thread count and reads the
+        // smaller N off its prefixes
+        List<ExperimentResult> batchResults = flags.contains("--sweep")
+                ? runner.runPrefixSweepExperiments(pointsList, threadCounts, 42L)
+                : runner.runComprehensiveExperiments(pointsList, threadCounts, forkOptions);
 
         runner.printResultsSummary(batchResults);
 
@@ -175,7 +739,27 @@ for (ExperimentResult result : results) {
                 new SimulationConfig(N, threads * 2, threads);
 
         runner.runTrials(estimator, config,
-                "Parallel(" + threads + " threads)", trials);
+                "Parallel(" + threads + " threads)", trials, forkOptions);
+
+        // --replicas runs seeded replicas on one shared pool, with bootstrap CIs
+        if (flags.contains("--replicas")) {
+            runner.runReplicaTrials(config, "Parallel(" + threads + " threads)", trials, 42L);
+            runner.runReplicaTrials(new SimulationConfig(100_000, threads * 2, threads),
+                    "Parallel(" + threads + " threads)", 16, 42L);
+        }
+
+        // --elastic resizes a running simulation from 2 to 8 workers
+        if (flags.contains("--elastic")) {
+            runner.runElasticResizeExperiment(50_000_000, 2, 8);
+        }
+
+        // --throttle caps a run by points per second and by CPU share
+        if (flags.contains("--throttle")) {
+            runner.runThrottledExperiment(new SimulationConfig(20_000_000, 8, 4),
+                    SimulationControl.ThrottleMode.POINTS_PER_SECOND, 10_000_000, 500);
+            runner.runThrottledExperiment(new SimulationConfig(20_000_000, 8, 4),
+                    SimulationControl.ThrottleMode.CPU_FRACTION, 0.25, 500);
+        }
 
         System.out.println("\nActual π value: " + Math.PI);
     }
@@ -4,6 +4,8 @@ import java.util.List;
 
 import edu.montecarlo.experiment.ExperimentResult;
 import edu.montecarlo.experiment.PiExperimentRunner;
+import edu.montecarlo.model.EstimateSnapshot;
+import edu.montecarlo.model.SimulationControl;
 import edu.montecarlo.model.ParallelPiEstimator;
 import edu.montecarlo.model.PiEstimator;
 import edu.montecarlo.model.SimulationConfig;
@@ -13,6 +15,7 @@ import javafx.fxml.FXML;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.RadioButton;
@@ -27,10 +30,12 @@ public class MainController {
     @FXML private Canvas visualizationCanvas;
     @FXML private Spinner<Integer> pointsSpinner;
     @FXML private Spinner<Integer> threadsSpinner;
+    @FXML private CheckBox continuousCheck;
     @FXML private RadioButton sequentialRadio;
     @FXML private RadioButton parallelRadio;
     @FXML private Button startButton;
     @FXML private Button stopButton;
+    @FXML private Button pauseButton;
     @FXML private Button clearButton;
     @FXML private Button runExperimentsButton;
     @FXML private Label piEstimateLabel;
@@ -46,6 +51,7 @@ public class MainController {
     private long totalPoints = 0;
     private long pointsInside = 0;
     private long startTime;
+    private EstimateSnapshot lastSnapshot;
 
     @FXML
     public void initialize() {
@@ -57,11 +63,27 @@ public class MainController {
         parallelRadio.setToggleGroup(group);
         sequentialRadio.setSelected(true);
         threadsSpinner.setDisable(true);
-        sequentialRadio.setOnAction(e -> threadsSpinner.setDisable(true));
-        parallelRadio.setOnAction(e -> threadsSpinner.setDisable(false));
+        continuousCheck.setDisable(true);
+        sequentialRadio.setOnAction(e -> {
+            threadsSpinner.setDisable(true);
+            continuousCheck.setDisable(true);
+        });
+        parallelRadio.setOnAction(e -> {
+            threadsSpinner.setDisable(false);
+            continuousCheck.setDisable(false);
+        });
+
+        // Resize a running parallel simulation live from the spinner.
+        threadsSpinner.valueProperty().addListener((obs, oldValue, newValue) -> {
+            if (currentTask != null && currentTask.isRunning() && currentTask.isParallel()
+                    && currentTask.getControl() != null && newValue != null) {
+                currentTask.getControl().setWorkerCount(newValue);
+            }
+        });
 
         drawInitialCanvas();
         stopButton.setDisable(true);
+        pauseButton.setDisable(true);
 
         resultsTextArea.setText(
                 "Monte Carlo π Estimation\n" +
@@ -91,6 +113,11 @@ public class MainController {
 
     @FXML
     private void handleStart() {
+        if (parallelRadio.isSelected() && continuousCheck.isSelected()) {
+            startContinuous();
+            return;
+        }
+
         totalPoints = 0;
         pointsInside = 0;
         startTime = System.currentTimeMillis();
@@ -120,25 +147,120 @@ public class MainController {
                     String.format("\n[%s] %,d points → π ≈ %.6f | Error: %.6f | Time: %,d ms",
                             mode, numPoints, pi, Math.abs(pi - Math.PI), time)
             );
+            if (parallel) {
+                appendThroughputSegments(currentTask.getControl());
+            }
 
             startButton.setDisable(false);
             stopButton.setDisable(true);
+            pauseButton.setDisable(true);
         });
 
         currentTask.setOnCancelled(e -> {
             statusLabel.setText("Cancelled");
             startButton.setDisable(false);
             stopButton.setDisable(true);
+            pauseButton.setDisable(true);
+        });
+
+        simulationThread = new Thread(currentTask);
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+
+        startButton.setDisable(true);
+        stopButton.setDisable(false);
+        pauseButton.setText("Pause");
+        pauseButton.setDisable(false);
+    }
+
+    /** Logs throughput per worker count when the run was paused or resized. */
+    private void appendThroughputSegments(SimulationControl control) {
+        List<SimulationControl.Segment> segments = control.getSegments();
+        if (segments.size() < 2) {
+            return;
+        }
+        for (SimulationControl.Segment segment : segments) {
+            resultsTextArea.appendText(String.format("\n    %s %2d threads | %,d points | %,.1f ms | %,.2f Mpts/s",
+                    segment.isPaused() ? "paused " : "running",
+                    segment.getWorkers(), segment.getPoints(), segment.getNanos() / 1e6,
+                    segment.getPointsPerSecond() / 1e6));
+        }
+    }
+
+    @FXML
+    private void handlePause() {
+        if (currentTask == null || currentTask.getControl() == null) {
+            return;
+        }
+        SimulationControl control = currentTask.getControl();
+        if (control.isPaused()) {
+            control.resume();
+            pauseButton.setText("Pause");
+        } else {
+            control.pause();
+            pauseButton.setText("Resume");
+        }
+    }
+
+    private void startContinuous() {
+        lastSnapshot = null;
+        drawInitialCanvas();
+
+        int threads = threadsSpinner.getValue();
+        currentTask = new VisualizationTask(threads, this::showSnapshot);
+
+        progressBar.progressProperty().bind(currentTask.progressProperty());
+        statusLabel.textProperty().bind(currentTask.messageProperty());
+
+        currentTask.setOnCancelled(e -> {
+            progressBar.progressProperty().unbind();
+            progressBar.setProgress(0);
+            statusLabel.textProperty().unbind();
+            statusLabel.setText("Stopped");
+
+            if (lastSnapshot != null) {
+                resultsTextArea.appendText(String.format(
+                        "\n[Continuous (%d threads)] %,d points → π ≈ %.8f ± %.8f | Error: %.8f | Time: %,d ms",
+                        threads, lastSnapshot.getPoints(), lastSnapshot.getEstimate(),
+                        lastSnapshot.getStandardError(),
+                        Math.abs(lastSnapshot.getEstimate() - Math.PI),
+                        lastSnapshot.getElapsedNanos() / 1_000_000));
+            }
+
+            startButton.setDisable(false);
+            stopButton.setDisable(true);
+            threadsSpinner.setDisable(!parallelRadio.isSelected());
+        });
+
+        currentTask.setOnFailed(e -> {
+            progressBar.progressProperty().unbind();
+            progressBar.setProgress(0);
+            statusLabel.textProperty().unbind();
+            Throwable error = currentTask.getException();
+            statusLabel.setText("Failed: " + (error == null ? "unknown error" : error.getMessage()));
+
+            startButton.setDisable(false);
+            stopButton.setDisable(true);
+            threadsSpinner.setDisable(!parallelRadio.isSelected());
         });
 
         simulationThread = new Thread(currentTask);
         simulationThread.setDaemon(true);
         simulationThread.start();
 
+        // The continuous estimator has no live control, so the thread count is fixed for the run.
+        threadsSpinner.setDisable(true);
         startButton.setDisable(true);
         stopButton.setDisable(false);
     }
 
+    private void showSnapshot(EstimateSnapshot snapshot) {
+        lastSnapshot = snapshot;
+        piEstimateLabel.setText(String.format("%.10f", snapshot.getEstimate()));
+        errorLabel.setText(String.format("%.10f", Math.abs(snapshot.getEstimate() - Math.PI)));
+        timeLabel.setText(snapshot.getElapsedNanos() / 1_000_000 + " ms");
+    }
+
     @FXML
     private void handleStop() {
         if (currentTask != null) {
@@ -184,33 +306,9 @@ private void handleRunExperiments() {
 
             List<ExperimentResult> batchResults = runner.runComprehensiveExperiments(pointsList, threadCounts);
 
-            StringBuilder batchSb = new StringBuilder();
-            batchSb.append("\n=== Experiment Summary ===\n");
-batchSb.append(String.format(
-        "%-25s | %-15s | %-12s | %-12s | %-10s | %-8s\n",
-        "Estimator", "Points", "π Estimate", "Error", "Time (ms)", "Speedup"
-));
-batchSb.append("-".repeat(105)).append("\n");
-
-
-            for (ExperimentResult result : batchResults) {
-                String speedupStr =
-                result.getSpeedup() == null
-                    ? "-"
-                    : String.format("%.2fx", result.getSpeedup());
-                batchSb.append(String.format("%-25s | %,15d | %.10f | %.10f | %,10d | %-8s\n" +
-                                        "",
-                        result.getEstimatorType(),
-                        result.getConfig().getTotalPoints(),
-                        result.getPiEstimate(),
-                        result.getAbsoluteError(),
-                        result.getRuntimeMs(),
-                        speedupStr
-                    
-                    ));
-            }
+            String batchSummary = runner.formatResultsSummary(batchResults);
 
-            Platform.runLater(() -> resultsTextArea.appendText(batchSb.toString()));
+            Platform.runLater(() -> resultsTextArea.appendText(batchSummary));
 
             int trials = 4;
             PiEstimator parallelEstimator = new ParallelPiEstimator();
@@ -1,8 +1,15 @@
 package edu.montecarlo.gui;
 
+import java.util.concurrent.Flow;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import edu.montecarlo.model.ContinuousPiEstimator;
+import edu.montecarlo.model.EstimateSnapshot;
+import edu.montecarlo.model.ParallelPiEstimator;
+import edu.montecarlo.model.SimulationConfig;
+import edu.montecarlo.model.SimulationControl;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 
@@ -12,6 +19,8 @@ public class VisualizationTask extends Task<Double> {
     private final boolean isParallel;
     private final int numThreads;
     private final Consumer<PointData> pointCallback; 
+    private final Consumer<EstimateSnapshot> snapshotCallback;
+    private final SimulationControl control;
     private long pointsInsideCircle = 0;
     private long pointsProcessed = 0;
 
@@ -34,10 +43,42 @@ public class VisualizationTask extends Task<Double> {
         this.isParallel = isParallel;
         this.numThreads = numThreads;
         this.pointCallback = pointCallback;
+        this.snapshotCallback = null;
+        this.control = new SimulationControl();
+    }
+
+    /**
+     * Continuous mode: refines the estimate on {@code numThreads} workers
+     * until the task is cancelled, handing each snapshot to
+     * {@code snapshotCallback} on the FX thread.
+     */
+    public VisualizationTask(int numThreads, Consumer<EstimateSnapshot> snapshotCallback) {
+        this.totalPoints = 0;
+        this.isParallel = true;
+        this.numThreads = numThreads;
+        this.pointCallback = null;
+        this.snapshotCallback = snapshotCallback;
+        this.control = null;
+    }
+
+    /**
+     * Live controls of this run: pause/resume in both modes, worker count
+     * in parallel mode. Null in continuous mode.
+     */
+    public SimulationControl getControl() {
+        return control;
+    }
+
+    public boolean isParallel() {
+        return isParallel;
     }
 
     @Override
     protected Double call() throws Exception {
+        if (snapshotCallback != null) {
+            return runContinuousSimulation();
+        }
+
         long startTime = System.currentTimeMillis();
 
         if (isParallel) {
@@ -56,6 +97,10 @@ public class VisualizationTask extends Task<Double> {
         ThreadLocalRandom random = ThreadLocalRandom.current();
 
         for (long i = 0; i < totalPoints && !isCancelled(); i++) {
+            if (i % 1000 == 0) {
+                control.awaitIfPaused();
+            }
+
             double x = random.nextDouble() * 2 - 1; 
             double y = random.nextDouble() * 2 - 1; 
             boolean inside = (x * x + y * y <= 1.0); 
@@ -84,33 +129,96 @@ public class VisualizationTask extends Task<Double> {
         }
     }
 
-    private void runParallelSimulation() throws InterruptedException {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+    private void runParallelSimulation() {
+        // One batch per drawn point; workers follow the control between batches.
+        long samplingRate = Math.max(1, totalPoints / 5000);
+        ParallelPiEstimator estimator = new ParallelPiEstimator(control, samplingRate,
+                (points, hits, x, y, inside) -> {
+                    PointData point = new PointData(x, y, inside);
+                    Platform.runLater(() -> pointCallback.accept(point));
+
+                    long processed = control.getProcessedPoints();
+                    updateProgress(processed, totalPoints);
+                    double currentEstimate = 4.0 * control.getHits() / processed;
+                    updateMessage(String.format("π ≈ %.6f (%,d / %,d points, %d threads)",
+                            currentEstimate, processed, totalPoints, control.getWorkerCount()));
+
+                    if (totalPoints <= 20000) {
+                        Thread.sleep(1);
+                    }
+                });
+
+        try {
+            estimator.estimatePi(new SimulationConfig(totalPoints, numThreads * 2, numThreads));
+        } catch (RuntimeException e) {
+            if (isCancelled()) {
+                return;
+            }
+            throw e;
+        }
+        pointsInsideCircle = control.getHits();
+    }
 
-        for (long i = 0; i < totalPoints && !isCancelled(); i++) {
-            double x = random.nextDouble() * 2 - 1; 
-            double y = random.nextDouble() * 2 - 1; 
-            boolean inside = (x * x + y * y <= 1.0); 
-            if (inside) {
-                pointsInsideCircle++;
+    private double runContinuousSimulation() throws Exception {
+        AtomicReference<Flow.Subscription> subscriptionRef = new AtomicReference<>();
+        AtomicReference<EstimateSnapshot> latest = new AtomicReference<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        updateProgress(-1, 1);
+        new ContinuousPiEstimator(numThreads).subscribe(new Flow.Subscriber<EstimateSnapshot>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriptionRef.set(subscription);
+                subscription.request(1);
             }
 
-            long samplingRate = Math.max(1, totalPoints / 5000);
-            if (i % samplingRate == 0) {
-                PointData point = new PointData(x, y, inside);
-                Platform.runLater(() -> pointCallback.accept(point));
+            @Override
+            public void onNext(EstimateSnapshot snapshot) {
+                latest.set(snapshot);
+                updateMessage(String.format("π ≈ %.8f ± %.8f (%,d points)",
+                        snapshot.getEstimate(), snapshot.getStandardError(), snapshot.getPoints()));
+
+                // Ask for the next snapshot only once the FX thread has drawn this one.
+                Platform.runLater(() -> {
+                    snapshotCallback.accept(snapshot);
+                    subscriptionRef.get().request(1);
+                });
+            }
 
-                if (totalPoints <= 20000) {
-                    Thread.sleep(1);
-                }
+            @Override
+            public void onError(Throwable throwable) {
+                updateMessage("Failed: " + throwable.getMessage());
+                failure.set(throwable);
             }
 
-            if (i % 1000 == 0) {
-                updateProgress(i, totalPoints);
-                double currentEstimate = 4.0 * pointsInsideCircle / (i + 1);
-                updateMessage(String.format("π ≈ %.6f (%,d / %,d points)",
-                        currentEstimate, i + 1, totalPoints));
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        try {
+            while (!isCancelled() && failure.get() == null) {
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            Flow.Subscription subscription = subscriptionRef.get();
+            if (subscription != null) {
+                subscription.cancel();
             }
         }
+
+        // Rethrow so the task ends in FAILED rather than running on idle.
+        Throwable error = failure.get();
+        if (error instanceof Exception exception) {
+            throw exception;
+        }
+        if (error != null) {
+            throw new RuntimeException("Error during continuous simulation", error);
+        }
+
+        EstimateSnapshot last = latest.get();
+        return last == null ? Double.NaN : last.getEstimate();
     }
 }
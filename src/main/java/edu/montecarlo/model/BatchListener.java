@@ -0,0 +1,18 @@
+package edu.montecarlo.model;
+
+/**
+ * Callback invoked on the worker thread after every batch of an elastic
+ * {@link ParallelPiEstimator} run.
+ */
+@FunctionalInterface
+public interface BatchListener {
+
+    /**
+     * @param points number of points in the batch
+     * @param hits   how many of them fell inside the circle
+     * @param x      x coordinate of the batch's last point
+     * @param y      y coordinate of the batch's last point
+     * @param inside whether that last point fell inside the circle
+     */
+    void onBatch(long points, long hits, double x, double y, boolean inside) throws InterruptedException;
+}
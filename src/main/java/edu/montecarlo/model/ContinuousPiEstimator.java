@@ -0,0 +1,188 @@
+package edu.montecarlo.model;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Never-ending parallel estimation exposed as a {@link Flow.Publisher} of
+ * ever-refining {@link EstimateSnapshot}s.
+ *
+ * <p>Each subscription starts its own pool of sampling workers that run
+ * batches of points and add them to shared totals. Snapshots are handed to
+ * the subscriber on a separate delivery thread and only while it has
+ * outstanding demand; batches that finish while the subscriber is busy are
+ * coalesced into the next snapshot, so workers never block and nothing is
+ * queued. Cancelling the subscription stops the workers.
+ */
+public class ContinuousPiEstimator implements Flow.Publisher<EstimateSnapshot> {
+
+    public static final long DEFAULT_BATCH_SIZE = 100_000;
+
+    private final int numThreads;
+    private final long batchSize;
+
+    public ContinuousPiEstimator(int numThreads) {
+        this(numThreads, DEFAULT_BATCH_SIZE);
+    }
+
+    public ContinuousPiEstimator(int numThreads, long batchSize) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("numThreads must be at least 1: " + numThreads);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+        }
+        this.numThreads = numThreads;
+        this.batchSize = batchSize;
+    }
+
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super EstimateSnapshot> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        EstimateSubscription subscription = new EstimateSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private class EstimateSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super EstimateSnapshot> subscriber;
+        private final ExecutorService delivery =
+                Executors.newSingleThreadExecutor(daemonThreads("continuous-pi-delivery"));
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Object totalsLock = new Object();
+
+        private ExecutorService workers;
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;
+        private volatile long startNanos;
+
+        // guarded by totalsLock
+        private long points;
+        private long hits;
+
+        // only touched on the delivery thread
+        private long lastDeliveredPoints;
+
+        EstimateSubscription(Flow.Subscriber<? super EstimateSnapshot> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        synchronized void start() {
+            if (cancelled) {
+                return;
+            }
+            startNanos = System.nanoTime();
+            workers = Executors.newFixedThreadPool(numThreads, daemonThreads("continuous-pi-worker"));
+            for (int i = 0; i < numThreads; i++) {
+                workers.execute(this::sample);
+            }
+        }
+
+        private void sample() {
+            while (!cancelled) {
+                long batchHits = ParallelPiEstimator.countHits(batchSize);
+                synchronized (totalsLock) {
+                    points += batchSize;
+                    hits += batchHits;
+                }
+                signal();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException("request must be positive: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> {
+                    long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+            delivery.shutdown();
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    delivery.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // cancelled concurrently; nothing left to deliver
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    return;
+                }
+                Throwable error = pendingError;
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                while (demand.get() > 0 && !cancelled) {
+                    EstimateSnapshot snapshot = snapshot();
+                    if (snapshot.getPoints() == lastDeliveredPoints) {
+                        break;
+                    }
+                    lastDeliveredPoints = snapshot.getPoints();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(snapshot);
+                    } catch (Throwable t) {
+                        cancel();
+                        return;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private EstimateSnapshot snapshot() {
+            synchronized (totalsLock) {
+                return new EstimateSnapshot(points, hits, System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
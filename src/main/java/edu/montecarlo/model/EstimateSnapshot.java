@@ -0,0 +1,50 @@
+package edu.montecarlo.model;
+
+/**
+ * Immutable point-in-time view of a running estimate.
+ */
+public class EstimateSnapshot {
+    private final long points;
+    private final long hits;
+    private final long elapsedNanos;
+
+    public EstimateSnapshot(long points, long hits, long elapsedNanos) {
+        this.points = points;
+        this.hits = hits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getEstimate() {
+        return points == 0 ? 0.0 : 4.0 * hits / points;
+    }
+
+    /**
+     * Standard error of the estimate, 4 * sqrt(p (1 - p) / n) with p the
+     * observed hit ratio.
+     */
+    public double getStandardError() {
+        if (points == 0) {
+            return Double.NaN;
+        }
+        double p = (double) hits / points;
+        return 4.0 * Math.sqrt(p * (1 - p) / points);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Snapshot[points=%,d, π ≈ %.8f ± %.8f]",
+                points, getEstimate(), getStandardError());
+    }
+}
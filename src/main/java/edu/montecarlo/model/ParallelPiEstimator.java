@@ -2,33 +2,76 @@ package edu.montecarlo.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class ParallelPiEstimator implements PiEstimator {
 
+    /** Upper bound on the points a worker claims at once in elastic mode. */
+    public static final long MAX_ELASTIC_BATCH = 100_000;
+
+    private final SimulationControl control;
+    private final long batchSize;
+    private final BatchListener batchListener;
+    private volatile List<TaskMetrics> lastTaskMetrics = List.of();
+
+    public ParallelPiEstimator() {
+        this(null, 0, null);
+    }
+
+    /**
+     * Elastic mode: workers claim batches from a shared pool of points and
+     * follow {@code control} (pause, resume, worker count) between batches.
+     */
+    public ParallelPiEstimator(SimulationControl control) {
+        this(control, 0, null);
+    }
+
+    /**
+     * Elastic mode with a fixed batch size ({@code 0} picks one from the
+     * config) and a listener called after every batch.
+     */
+    public ParallelPiEstimator(SimulationControl control, long batchSize, BatchListener batchListener) {
+        this.control = control;
+        this.batchSize = batchSize;
+        this.batchListener = batchListener;
+    }
+
+    public SimulationControl getControl() {
+        return control;
+    }
+
     @Override
     public double estimatePi(SimulationConfig config) {
+        if (control != null) {
+            return estimatePiElastic(config);
+        }
+
         ExecutorService executor = Executors.newFixedThreadPool(config.getNumThreads());
 
         long pointsPerTask = config.getTotalPoints() / config.getNumTasks();
         long remainder = config.getTotalPoints() % config.getNumTasks();
 
-        List<Future<Long>> futures = new ArrayList<>();
+        List<Future<TaskResult>> futures = new ArrayList<>();
         for (int i = 0; i < config.getNumTasks(); i++) {
             long points = (i == config.getNumTasks() - 1) ? pointsPerTask + remainder : pointsPerTask;
             futures.add(executor.submit(new MonteCarloTask(points)));
         }
 
         long totalPointsInsideCircle = 0;
+        List<TaskMetrics> taskMetrics = new ArrayList<>(futures.size());
         try {
-            for (Future<Long> future : futures) {
-                totalPointsInsideCircle += future.get(); 
+            for (Future<TaskResult> future : futures) {
+                TaskResult result = future.get();
+                totalPointsInsideCircle += result.hits;
+                taskMetrics.add(result.metrics);
             }
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Error during parallel execution", e);
@@ -36,11 +79,184 @@ public class ParallelPiEstimator implements PiEstimator {
             executor.shutdown(); 
         }
 
+        lastTaskMetrics = List.copyOf(taskMetrics);
         return 4.0 * totalPointsInsideCircle / config.getTotalPoints();
     }
 
+    /**
+     * Runs with a changing set of workers. The calling thread acts as
+     * coordinator: it starts workers when the target count rises and hands
+     * out retire permits when it falls, which workers take up at their next
+     * batch boundary. Points are claimed atomically, so every point is
+     * sampled exactly once whatever the resizes.
+     */
+    private double estimatePiElastic(SimulationConfig config) {
+        long total = config.getTotalPoints();
+        long batch = batchSize > 0
+                ? batchSize
+                : Math.max(1, Math.min(MAX_ELASTIC_BATCH, total / (config.getNumTasks() * 8L)));
+
+        ElasticState state = new ElasticState(total);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        List<Future<TaskResult>> futures = new ArrayList<>();
+
+        control.start(config.getNumThreads());
+        long totalPointsInsideCircle = 0;
+        List<TaskMetrics> taskMetrics = new ArrayList<>();
+        try {
+            while (state.remaining.get() > 0) {
+                int toStart = state.rebalance(control.getWorkerCount());
+                for (int i = 0; i < toStart; i++) {
+                    futures.add(executor.submit(new ElasticWorker(state, batch)));
+                }
+                control.awaitChange(20);
+            }
+
+            for (Future<TaskResult> future : futures) {
+                TaskResult result = future.get();
+                totalPointsInsideCircle += result.hits;
+                taskMetrics.add(result.metrics);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            executor.shutdownNow();
+            throw new RuntimeException("Error during parallel execution", e);
+        } finally {
+            executor.shutdown();
+            control.finish();
+        }
+
+        lastTaskMetrics = List.copyOf(taskMetrics);
+        return 4.0 * totalPointsInsideCircle / total;
+    }
+
+    @Override
+    public List<TaskMetrics> getLastTaskMetrics() {
+        return lastTaskMetrics;
+    }
+
+    private static class TaskResult {
+        private final long hits;
+        private final TaskMetrics metrics;
+
+        TaskResult(long hits, TaskMetrics metrics) {
+            this.hits = hits;
+            this.metrics = metrics;
+        }
+    }
+
+    /** Shared bookkeeping of one elastic run. */
+    private static class ElasticState {
+        private final AtomicLong remaining;
+        private int live;
+        private int retirePermits;
+
+        ElasticState(long totalPoints) {
+            this.remaining = new AtomicLong(totalPoints);
+        }
+
+        /** Claims up to {@code batch} points; returns 0 once all are claimed. */
+        long claim(long batch) {
+            while (true) {
+                long left = remaining.get();
+                if (left == 0) {
+                    return 0;
+                }
+                long take = Math.min(batch, left);
+                if (remaining.compareAndSet(left, left - take)) {
+                    return take;
+                }
+            }
+        }
 
-    private static class MonteCarloTask implements Callable<Long> {
+        /** Adjusts towards {@code target} workers and returns how many to start. */
+        synchronized int rebalance(int target) {
+            int effective = live - retirePermits;
+            if (target > effective) {
+                int revoked = Math.min(retirePermits, target - effective);
+                retirePermits -= revoked;
+                int toStart = target - effective - revoked;
+                live += toStart;
+                return toStart;
+            }
+            retirePermits += effective - target;
+            return 0;
+        }
+
+        synchronized boolean tryRetire() {
+            if (retirePermits > 0) {
+                retirePermits--;
+                live--;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void exited() {
+            live--;
+        }
+    }
+
+    private class ElasticWorker implements Callable<TaskResult> {
+        private final ElasticState state;
+        private final long batch;
+
+        ElasticWorker(ElasticState state, long batch) {
+            this.state = state;
+            this.batch = batch;
+        }
+
+        @Override
+        public TaskResult call() throws InterruptedException {
+            TaskMetrics.Probe probe = TaskMetrics.start();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long points = 0;
+            long hitsInsideCircle = 0;
+
+            try {
+                while (true) {
+                    control.awaitIfPaused();
+                    if (state.tryRetire()) {
+                        break;
+                    }
+                    long claimed = state.claim(control.throttledBatch(batch));
+                    if (claimed == 0) {
+                        state.exited();
+                        break;
+                    }
+                    if (state.remaining.get() == 0) {
+                        control.signalChange();
+                    }
+
+                    long cpuBefore = TaskMetrics.currentThreadCpuNanos();
+                    long batchHits = countHits(claimed - 1);
+
+                    // The last point is sampled here so the listener can draw it.
+                    double x = random.nextDouble() * 2 - 1;
+                    double y = random.nextDouble() * 2 - 1;
+                    boolean inside = x * x + y * y <= 1.0;
+                    if (inside) {
+                        batchHits++;
+                    }
+
+                    points += claimed;
+                    hitsInsideCircle += batchHits;
+                    long batchCpu = cpuBefore < 0 ? -1 : TaskMetrics.currentThreadCpuNanos() - cpuBefore;
+                    control.addProgress(claimed, batchHits, batchCpu);
+                    if (batchListener != null) {
+                        batchListener.onBatch(claimed, batchHits, x, y, inside);
+                    }
+                    control.pace(claimed, batchCpu);
+                }
+            } catch (InterruptedException | RuntimeException e) {
+                state.exited();
+                throw e;
+            }
+
+            return new TaskResult(hitsInsideCircle, probe.finish(points));
+        }
+    }
+
+    private static class MonteCarloTask implements Callable<TaskResult> {
         private final long numPoints;
 
         public MonteCarloTask(long numPoints) {
@@ -48,21 +264,44 @@ public class ParallelPiEstimator implements PiEstimator {
         }
 
         @Override
-        public Long call() {
-            long hitsInsideCircle = 0;
+        public TaskResult call() {
+            TaskMetrics.Probe probe = TaskMetrics.start();
+            long hitsInsideCircle = countHits(numPoints);
+            return new TaskResult(hitsInsideCircle, probe.finish(numPoints));
+        }
+    }
 
-            ThreadLocalRandom random = ThreadLocalRandom.current();
+    /** Samples {@code numPoints} points on the calling thread and counts those inside the circle. */
+    static long countHits(long numPoints) {
+        long hitsInsideCircle = 0;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
 
-            for (long i = 0; i < numPoints; i++) {
+        for (long i = 0; i < numPoints; i++) {
             double x = random.nextDouble() * 2 - 1;
             double y = random.nextDouble() * 2 - 1;
 
-                if (x * x + y * y <= 1.0) {
-                    hitsInsideCircle++;
-                }
+            if (x * x + y * y <= 1.0) {
+                hitsInsideCircle++;
             }
+        }
+
+        return hitsInsideCircle;
+    }
+
+    /** Samples {@code numPoints} points from {@code random} and counts those inside the circle. */
+    static long countHits(SplittableRandom random, long numPoints) {
+        long hitsInsideCircle = 0;
 
-            return hitsInsideCircle;
+        for (long i = 0; i < numPoints; i++) {
+            double x = random.nextDouble() * 2 - 1;
+            double y = random.nextDouble() * 2 - 1;
+
+            if (x * x + y * y <= 1.0) {
+                hitsInsideCircle++;
+            }
         }
+
+        return hitsInsideCircle;
     }
 }
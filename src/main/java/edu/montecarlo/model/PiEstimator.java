@@ -1,5 +1,15 @@
 package edu.montecarlo.model;
 
+import java.util.List;
+
 public interface PiEstimator {
     double estimatePi(SimulationConfig config);
+
+    /**
+     * Per-task CPU/wall/allocation metrics recorded by the most recent
+     * {@link #estimatePi} call, or an empty list if none were recorded.
+     */
+    default List<TaskMetrics> getLastTaskMetrics() {
+        return List.of();
+    }
 }
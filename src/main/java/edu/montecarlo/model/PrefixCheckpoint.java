@@ -0,0 +1,44 @@
+package edu.montecarlo.model;
+
+/**
+ * Hit count and timing of the first {@code points} points of a prefix
+ * sweep.
+ */
+public class PrefixCheckpoint {
+    private final long points;
+    private final long hits;
+    private final long elapsedNanos;
+
+    public PrefixCheckpoint(long points, long hits, long elapsedNanos) {
+        this.points = points;
+        this.hits = hits;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /** Time from the start of the sweep until every point of this prefix was sampled. */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getEstimate() {
+        return 4.0 * hits / points;
+    }
+
+    public double getPointsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : points / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Prefix[points=%,d, π ≈ %.8f, %.1f ms]",
+                points, getEstimate(), elapsedNanos / 1e6);
+    }
+}
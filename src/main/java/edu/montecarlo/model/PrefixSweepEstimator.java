@@ -0,0 +1,175 @@
+package edu.montecarlo.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estimates π for several sample sizes N1 &lt; N2 &lt; ... in one pass over
+ * the largest N, recording the hit count at every prefix.
+ *
+ * <p>The point stream is cut into chunks of {@code chunkSize} points, each
+ * with its own random stream split from the seed. With the same chunk size
+ * point i is therefore the same whatever the thread count, and the first
+ * N1 points of the N3 run are exactly an N1 run. Workers claim chunks in
+ * order; a prefix is timed when every chunk before its cut has finished
+ * and the cut itself has been reached.
+ */
+public class PrefixSweepEstimator {
+
+    public static final int MIN_CHUNK_SIZE = 1 << 10;
+    public static final int MAX_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Chunk size giving every one of {@code maxThreads} workers about eight
+     * chunks before the smallest prefix is reached. Use the same value for
+     * every thread count of a sweep so they all sample the same points.
+     */
+    public static int chunkSizeFor(long smallestPrefix, int maxThreads) {
+        long size = smallestPrefix / (8L * Math.max(1, maxThreads));
+        return (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size));
+    }
+
+    public List<PrefixCheckpoint> estimatePrefixes(long[] prefixSizes, int numThreads, int chunkSize, long seed) {
+        long[] prefixes = Arrays.stream(prefixSizes).sorted().distinct().toArray();
+        if (prefixes.length == 0 || prefixes[0] < 1) {
+            throw new IllegalArgumentException("prefix sizes must be positive: " + Arrays.toString(prefixSizes));
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+        }
+
+        long total = prefixes[prefixes.length - 1];
+        long chunkCount = (total + chunkSize - 1) / chunkSize;
+        if (chunkCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many points for one sweep: " + total);
+        }
+        int numChunks = (int) chunkCount;
+
+        SplittableRandom master = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[numChunks];
+        for (int c = 0; c < numChunks; c++) {
+            randoms[c] = master.split();
+        }
+
+        Sweep sweep = new Sweep(prefixes, randoms, total, chunkSize);
+        sweep.startNanos = System.nanoTime();
+
+        if (numThreads <= 1) {
+            new SweepWorker(sweep).call();
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                futures.add(executor.submit(new SweepWorker(sweep)));
+            }
+            try {
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException("Error during prefix sweep", e);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        return sweep.checkpoints();
+    }
+
+    /** Shared state of one sweep; per-chunk arrays are written by exactly one worker. */
+    private static class Sweep {
+        private final long[] prefixes;
+        private final SplittableRandom[] randoms;
+        private final long total;
+        private final int chunkSize;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final long[] chunkHits;
+        private final long[] chunkDoneNanos;
+        private final long[] hitsAtCut;
+        private final long[] cutNanos;
+        private long startNanos;
+
+        Sweep(long[] prefixes, SplittableRandom[] randoms, long total, int chunkSize) {
+            this.prefixes = prefixes;
+            this.randoms = randoms;
+            this.total = total;
+            this.chunkSize = chunkSize;
+            this.chunkHits = new long[randoms.length];
+            this.chunkDoneNanos = new long[randoms.length];
+            this.hitsAtCut = new long[prefixes.length];
+            this.cutNanos = new long[prefixes.length];
+        }
+
+        int chunkOf(long prefix) {
+            return (int) ((prefix - 1) / chunkSize);
+        }
+
+        List<PrefixCheckpoint> checkpoints() {
+            List<PrefixCheckpoint> checkpoints = new ArrayList<>(prefixes.length);
+            long fullChunkHits = 0;
+            long doneNanos = 0;
+            int chunk = 0;
+            for (int k = 0; k < prefixes.length; k++) {
+                int cutChunk = chunkOf(prefixes[k]);
+                for (; chunk < cutChunk; chunk++) {
+                    fullChunkHits += chunkHits[chunk];
+                    doneNanos = Math.max(doneNanos, chunkDoneNanos[chunk]);
+                }
+                long elapsed = Math.max(doneNanos, cutNanos[k]) - startNanos;
+                checkpoints.add(new PrefixCheckpoint(prefixes[k], fullChunkHits + hitsAtCut[k], elapsed));
+            }
+            return checkpoints;
+        }
+    }
+
+    private static class SweepWorker implements Callable<Void> {
+        private final Sweep sweep;
+
+        SweepWorker(Sweep sweep) {
+            this.sweep = sweep;
+        }
+
+        @Override
+        public Void call() {
+            int c;
+            while ((c = sweep.nextChunk.getAndIncrement()) < sweep.randoms.length) {
+                runChunk(c);
+                sweep.chunkDoneNanos[c] = System.nanoTime();
+            }
+            return null;
+        }
+
+        private void runChunk(int c) {
+            long chunkStart = (long) c * sweep.chunkSize;
+            long length = Math.min(sweep.chunkSize, sweep.total - chunkStart);
+            SplittableRandom random = sweep.randoms[c];
+
+            // Prefixes ending inside this chunk, in ascending order.
+            int k = Arrays.binarySearch(sweep.prefixes, chunkStart + 1);
+            if (k < 0) {
+                k = -k - 1;
+            }
+
+            long hitsInsideCircle = 0;
+            long sampled = 0;
+            while (k < sweep.prefixes.length && sweep.chunkOf(sweep.prefixes[k]) == c) {
+                long cut = sweep.prefixes[k] - chunkStart;
+                hitsInsideCircle += ParallelPiEstimator.countHits(random, cut - sampled);
+                sampled = cut;
+                sweep.cutNanos[k] = System.nanoTime();
+                sweep.hitsAtCut[k++] = hitsInsideCircle;
+            }
+            hitsInsideCircle += ParallelPiEstimator.countHits(random, length - sampled);
+
+            sweep.chunkHits[c] = hitsInsideCircle;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package edu.montecarlo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs several independent, seeded replicas of the same configuration on
+ * one shared thread pool instead of one pool per trial.
+ *
+ * <p>Every replica gets the full {@code config.getTotalPoints()} and its
+ * own random streams split from the base seed, so results are reproducible
+ * regardless of scheduling. Large N submits {@code numTasks} tasks per
+ * replica; for N up to {@link #FUSE_THRESHOLD} the replicas are fused so
+ * that each task samples its share of every replica in turn, and the
+ * per-task overhead is paid once instead of once per replica. Each
+ * replica's sampling is timed separately either way.
+ */
+public class ReplicaPiEstimator {
+
+    /** Largest N for which replicas are fused into a single pass. */
+    public static final long FUSE_THRESHOLD = 250_000;
+
+    public List<Replica> estimateReplicas(SimulationConfig config, int numReplicas, long seed) {
+        if (numReplicas < 1) {
+            throw new IllegalArgumentException("numReplicas must be at least 1: " + numReplicas);
+        }
+
+        // Split every stream up front so the assignment does not depend on scheduling.
+        SplittableRandom master = new SplittableRandom(seed);
+        int numTasks = config.getNumTasks();
+        SplittableRandom[][] streams = new SplittableRandom[numTasks][numReplicas];
+        for (int r = 0; r < numReplicas; r++) {
+            for (int t = 0; t < numTasks; t++) {
+                streams[t][r] = master.split();
+            }
+        }
+
+        long pointsPerTask = config.getTotalPoints() / numTasks;
+        long remainder = config.getTotalPoints() % numTasks;
+        boolean fused = config.getTotalPoints() <= FUSE_THRESHOLD;
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.getNumThreads());
+        List<Future<ReplicaTaskResult>> futures = new ArrayList<>();
+        for (int t = 0; t < numTasks; t++) {
+            long points = (t == numTasks - 1) ? pointsPerTask + remainder : pointsPerTask;
+            if (fused) {
+                futures.add(executor.submit(new FusedReplicaTask(points, streams[t])));
+            } else {
+                for (int r = 0; r < numReplicas; r++) {
+                    futures.add(executor.submit(new SingleReplicaTask(points, r, streams[t][r])));
+                }
+            }
+        }
+
+        long[] hits = new long[numReplicas];
+        long[] workNanos = new long[numReplicas];
+        try {
+            for (Future<ReplicaTaskResult> future : futures) {
+                ReplicaTaskResult result = future.get();
+                int covered = result.hits.length;
+                for (int i = 0; i < covered; i++) {
+                    int replica = result.firstReplica + i;
+                    hits[replica] += result.hits[i];
+                    workNanos[replica] += result.wallNanos[i];
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Error during replica execution", e);
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Replica> replicas = new ArrayList<>(numReplicas);
+        for (int r = 0; r < numReplicas; r++) {
+            replicas.add(new Replica(config.getTotalPoints(), hits[r],
+                    workNanos[r] / config.getNumThreads(), fused));
+        }
+        return replicas;
+    }
+
+    /** Outcome of one replica. */
+    public static class Replica {
+        private final long points;
+        private final long hits;
+        private final long workNanos;
+        private final boolean fused;
+
+        public Replica(long points, long hits, long workNanos, boolean fused) {
+            this.points = points;
+            this.hits = hits;
+            this.workNanos = workNanos;
+            this.fused = fused;
+        }
+
+        public long getPoints() {
+            return points;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public double getEstimate() {
+            return 4.0 * hits / points;
+        }
+
+        /**
+         * Task time attributed to this replica divided by the pool size,
+         * i.e. roughly how long it would have taken alone on the pool.
+         */
+        public long getWorkNanos() {
+            return workNanos;
+        }
+
+        public boolean isFused() {
+            return fused;
+        }
+    }
+
+    private static class ReplicaTaskResult {
+        private final int firstReplica;
+        private final long[] hits;
+        private final long[] wallNanos;
+
+        ReplicaTaskResult(int firstReplica, long[] hits, long[] wallNanos) {
+            this.firstReplica = firstReplica;
+            this.hits = hits;
+            this.wallNanos = wallNanos;
+        }
+    }
+
+    private static class SingleReplicaTask implements Callable<ReplicaTaskResult> {
+        private final long numPoints;
+        private final int replica;
+        private final SplittableRandom random;
+
+        SingleReplicaTask(long numPoints, int replica, SplittableRandom random) {
+            this.numPoints = numPoints;
+            this.replica = replica;
+            this.random = random;
+        }
+
+        @Override
+        public ReplicaTaskResult call() {
+            long start = System.nanoTime();
+            long hitsInsideCircle = ParallelPiEstimator.countHits(random, numPoints);
+
+            return new ReplicaTaskResult(replica, new long[] {hitsInsideCircle},
+                    new long[] {System.nanoTime() - start});
+        }
+    }
+
+    private static class FusedReplicaTask implements Callable<ReplicaTaskResult> {
+        private final long numPoints;
+        private final SplittableRandom[] randoms;
+
+        FusedReplicaTask(long numPoints, SplittableRandom[] randoms) {
+            this.numPoints = numPoints;
+            this.randoms = randoms;
+        }
+
+        @Override
+        public ReplicaTaskResult call() {
+            long[] hitsInsideCircle = new long[randoms.length];
+            long[] wallNanos = new long[randoms.length];
+
+            for (int r = 0; r < randoms.length; r++) {
+                long start = System.nanoTime();
+                hitsInsideCircle[r] = ParallelPiEstimator.countHits(randoms[r], numPoints);
+                wallNanos[r] = System.nanoTime() - start;
+            }
+
+            return new ReplicaTaskResult(0, hitsInsideCircle, wallNanos);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package edu.montecarlo.model;
 
+import java.util.List;
 import java.util.Random;
 
 public class SequentialPiEstimator implements PiEstimator {
 
+    private volatile List<TaskMetrics> lastTaskMetrics = List.of();
+
     @Override
     public double estimatePi(SimulationConfig config) {
+        TaskMetrics.Probe probe = TaskMetrics.start();
         Random random = new Random();
         long pointsInsideCircle = 0;
 
@@ -18,6 +22,12 @@ public class SequentialPiEstimator implements PiEstimator {
             }
         }
 
+        lastTaskMetrics = List.of(probe.finish(config.getTotalPoints()));
         return 4.0 * pointsInsideCircle / config.getTotalPoints();
     }
+
+    @Override
+    public List<TaskMetrics> getLastTaskMetrics() {
+        return lastTaskMetrics;
+    }
 }
@@ -0,0 +1,363 @@
+package edu.montecarlo.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Live controls for a running {@link ParallelPiEstimator}: pause, resume,
+ * change the number of workers and cap the sampling rate while the run is
+ * in progress.
+ *
+ * <p>Workers only look at the controls between batches, so a pause or
+ * resize takes effect once the batches already claimed are finished; no
+ * sample is lost or counted twice. The control also records throughput
+ * for every stretch between two changes, so the effect of a resize can be
+ * measured.
+ */
+public class SimulationControl {
+
+    /** What a throttle caps. */
+    public enum ThrottleMode {
+        /** Points sampled per second across all workers. */
+        POINTS_PER_SECOND,
+        /** CPU time per wall-clock second as a fraction of the whole host (0..1]. */
+        CPU_FRACTION
+    }
+
+    /** Largest burst the token bucket allows, as seconds of the target rate. */
+    private static final double BURST_SECONDS = 0.05;
+
+    private final AtomicLong processedPoints = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong cpuNanos = new AtomicLong();
+    private volatile Throttle throttle;
+
+    private volatile int workerCount;
+    private volatile boolean paused;
+    /** When the last run finished, or 0 while running or before the first run. */
+    private volatile long finishNanos;
+
+    // Requested while no run is in progress; applied once by start().
+    private volatile int requestedWorkers;
+    private volatile boolean pauseRequested;
+
+    // guarded by this
+    private final List<Segment> segments = new ArrayList<>();
+    private long segmentStartNanos;
+    private long segmentStartPoints;
+    private boolean running;
+
+    /**
+     * Resets progress and segments and starts the first segment. Called by
+     * the estimator when a run begins. A pause or worker count requested
+     * while no run was in progress applies to this run; otherwise it starts
+     * unpaused with {@code initialWorkers}.
+     */
+    public synchronized void start(int initialWorkers) {
+        workerCount = requestedWorkers > 0 ? requestedWorkers : initialWorkers;
+        paused = pauseRequested;
+        requestedWorkers = 0;
+        pauseRequested = false;
+        processedPoints.set(0);
+        hits.set(0);
+        cpuNanos.set(0);
+        restartThrottle();
+        segments.clear();
+        segmentStartNanos = System.nanoTime();
+        segmentStartPoints = 0;
+        finishNanos = 0;
+        running = true;
+    }
+
+    /** Closes the last segment and clears the run state. Called by the estimator when a run ends. */
+    public synchronized void finish() {
+        closeSegment();
+        finishNanos = System.nanoTime();
+        running = false;
+        paused = false;
+        workerCount = 0;
+        notifyAll();
+    }
+
+    public synchronized void pause() {
+        if (!running) {
+            pauseRequested = true;
+            return;
+        }
+        if (!paused) {
+            closeSegment();
+            paused = true;
+            notifyAll();
+        }
+    }
+
+    public synchronized void resume() {
+        if (!running) {
+            pauseRequested = false;
+            return;
+        }
+        if (paused) {
+            closeSegment();
+            paused = false;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Sets the target number of workers. Extra workers retire and new ones
+     * start at the next batch boundary; between runs the count is kept for
+     * the next run.
+     */
+    public synchronized void setWorkerCount(int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1 (use pause() to stop): " + workers);
+        }
+        if (!running) {
+            requestedWorkers = workers;
+            return;
+        }
+        if (workers != workerCount) {
+            closeSegment();
+            workerCount = workers;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Caps the run at {@code target} points per second or CPU fraction of
+     * the host. Can be called before or during a run; workers pace
+     * themselves at their next batch boundary.
+     */
+    public synchronized void setThrottle(ThrottleMode mode, double target) {
+        if (!(target > 0)) {
+            throw new IllegalArgumentException("throttle target must be positive: " + target);
+        }
+        double rate;
+        if (mode == ThrottleMode.CPU_FRACTION) {
+            if (target > 1) {
+                throw new IllegalArgumentException("CPU fraction must be at most 1: " + target);
+            }
+            if (TaskMetrics.currentThreadCpuNanos() < 0) {
+                throw new UnsupportedOperationException("Thread CPU time is not supported by this JVM");
+            }
+            rate = target * Runtime.getRuntime().availableProcessors() * 1e9;
+        } else {
+            rate = target;
+        }
+
+        closeSegment();
+        throttle = new Throttle(mode, target, new TokenBucket(rate, rate * BURST_SECONDS),
+                processedPoints.get(), cpuNanos.get());
+        notifyAll();
+    }
+
+    /** Restarts the current throttle's bucket and report from zero progress. */
+    private void restartThrottle() {
+        Throttle current = throttle;
+        if (current != null) {
+            throttle = null;
+            setThrottle(current.mode, current.target);
+        }
+    }
+
+    public synchronized void clearThrottle() {
+        if (throttle != null) {
+            closeSegment();
+            throttle = null;
+        }
+    }
+
+    /**
+     * Requested against achieved rate from when the throttle was set until
+     * now, or until the run finished; null if unthrottled.
+     */
+    public ThrottleReport getThrottleReport() {
+        Throttle current = throttle;
+        if (current == null) {
+            return null;
+        }
+        long finished = finishNanos;
+        long end = finished == 0 ? System.nanoTime() : Math.max(finished, current.startNanos);
+        long elapsed = end - current.startNanos;
+        double seconds = elapsed / 1e9;
+        double achieved = current.mode == ThrottleMode.POINTS_PER_SECOND
+                ? (processedPoints.get() - current.startPoints) / seconds
+                : (cpuNanos.get() - current.startCpuNanos) / 1e9
+                        / (seconds * Runtime.getRuntime().availableProcessors());
+        long waits = current.waits.get();
+        return new ThrottleReport(current.mode, current.target, achieved, elapsed, waits,
+                waits == 0 ? 0.0 : (double) current.overshootNanos.get() / waits,
+                current.maxOvershootNanos.get());
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /** True while the run is paused, or when a pause is pending for the next run. */
+    public boolean isPaused() {
+        return paused || pauseRequested;
+    }
+
+    public long getProcessedPoints() {
+        return processedPoints.get();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** Throughput per stretch between two control changes, oldest first. */
+    public synchronized List<Segment> getSegments() {
+        List<Segment> snapshot = new ArrayList<>(segments);
+        if (running) {
+            snapshot.add(currentSegment());
+        }
+        return snapshot;
+    }
+
+    /** Blocks the calling thread while the run is paused. */
+    public synchronized void awaitIfPaused() throws InterruptedException {
+        while (paused) {
+            wait();
+        }
+    }
+
+    /** Waits up to {@code timeoutMs} for a control change. */
+    synchronized void awaitChange(long timeoutMs) throws InterruptedException {
+        wait(timeoutMs);
+    }
+
+    /** Wakes the coordinator, e.g. once the last batch has been claimed. */
+    synchronized void signalChange() {
+        notifyAll();
+    }
+
+    void addProgress(long points, long batchHits, long batchCpuNanos) {
+        processedPoints.addAndGet(points);
+        hits.addAndGet(batchHits);
+        if (batchCpuNanos > 0) {
+            cpuNanos.addAndGet(batchCpuNanos);
+        }
+    }
+
+    /**
+     * Shrinks {@code batch} so a points-per-second throttle never has to
+     * absorb more than one burst at a time.
+     */
+    long throttledBatch(long batch) {
+        Throttle current = throttle;
+        if (current == null || current.mode != ThrottleMode.POINTS_PER_SECOND) {
+            return batch;
+        }
+        return Math.max(1, Math.min(batch, (long) (current.target * BURST_SECONDS)));
+    }
+
+    /**
+     * Charges a finished batch to the throttle and sleeps the calling
+     * worker until the bucket is back in credit.
+     */
+    void pace(long points, long batchCpuNanos) throws InterruptedException {
+        Throttle current = throttle;
+        if (current == null) {
+            return;
+        }
+        double cost = current.mode == ThrottleMode.POINTS_PER_SECOND ? points : Math.max(0, batchCpuNanos);
+        long waitNanos = current.bucket.reserve(cost);
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + waitNanos;
+        long left;
+        while ((left = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, left);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        long overshoot = System.nanoTime() - deadline;
+        current.waits.incrementAndGet();
+        current.overshootNanos.addAndGet(overshoot);
+        current.maxOvershootNanos.accumulateAndGet(overshoot, Math::max);
+    }
+
+    private void closeSegment() {
+        if (!running) {
+            return;
+        }
+        segments.add(currentSegment());
+        segmentStartNanos = System.nanoTime();
+        segmentStartPoints = processedPoints.get();
+    }
+
+    private Segment currentSegment() {
+        return new Segment(workerCount, paused,
+                processedPoints.get() - segmentStartPoints,
+                System.nanoTime() - segmentStartNanos);
+    }
+
+    private static class Throttle {
+        private final ThrottleMode mode;
+        private final double target;
+        private final TokenBucket bucket;
+        private final long startNanos = System.nanoTime();
+        private final long startPoints;
+        private final long startCpuNanos;
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong overshootNanos = new AtomicLong();
+        private final AtomicLong maxOvershootNanos = new AtomicLong();
+
+        Throttle(ThrottleMode mode, double target, TokenBucket bucket, long startPoints, long startCpuNanos) {
+            this.mode = mode;
+            this.target = target;
+            this.bucket = bucket;
+            this.startPoints = startPoints;
+            this.startCpuNanos = startCpuNanos;
+        }
+    }
+
+    /** Points processed during one stretch with a fixed worker count. */
+    public static class Segment {
+        private final int workers;
+        private final boolean paused;
+        private final long points;
+        private final long nanos;
+
+        public Segment(int workers, boolean paused, long points, long nanos) {
+            this.workers = workers;
+            this.paused = paused;
+            this.points = points;
+            this.nanos = nanos;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public boolean isPaused() {
+            return paused;
+        }
+
+        public long getPoints() {
+            return points;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public double getPointsPerSecond() {
+            return nanos == 0 ? 0.0 : points / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Segment[%s, workers=%d, points=%,d, %.1f ms, %,.1f Mpts/s]",
+                    paused ? "paused" : "running", workers, points, nanos / 1e6,
+                    getPointsPerSecond() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.montecarlo.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * CPU time, wall time and allocation recorded for one sampling task,
+ * together with the worker thread that executed it.
+ */
+public class TaskMetrics {
+
+    private static final ThreadMXBean THREAD_MX = ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREAD_MX.isThreadCpuTimeSupported() && !THREAD_MX.isThreadCpuTimeEnabled()) {
+            THREAD_MX.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    private final long threadId;
+    private final long points;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+
+    public TaskMetrics(long threadId, long points, long wallNanos,
+                       long cpuNanos, long allocatedBytes) {
+        this.threadId = threadId;
+        this.points = points;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Starts measuring the calling thread. The returned probe must be
+     * finished on the same thread.
+     */
+    public static Probe start() {
+        return new Probe();
+    }
+
+    /** CPU time consumed by the calling thread, or -1 if unsupported. */
+    static long currentThreadCpuNanos() {
+        return THREAD_MX.isCurrentThreadCpuTimeSupported()
+                ? THREAD_MX.getCurrentThreadCpuTime()
+                : -1;
+    }
+
+    /** Bytes allocated so far by the calling thread, or -1 if unsupported. */
+    static long currentThreadAllocatedBytes() {
+        if (THREAD_MX instanceof com.sun.management.ThreadMXBean sunThreadMx
+                && sunThreadMx.isThreadAllocatedMemorySupported()
+                && sunThreadMx.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadMx.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /** CPU time in nanoseconds, or -1 if the JVM cannot measure it. */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /** Allocated bytes, or -1 if the JVM cannot measure it. */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Task[thread=%d, points=%,d, wall=%.3f ms, cpu=%.3f ms, alloc=%,d B]",
+                threadId, points, wallNanos / 1e6, cpuNanos / 1e6, allocatedBytes);
+    }
+
+    /** Snapshot of the calling thread's counters taken when a task starts. */
+    public static class Probe {
+        private final long threadId = Thread.currentThread().threadId();
+        private final long startWall = System.nanoTime();
+        private final long startCpu = currentThreadCpuNanos();
+        private final long startAlloc = currentThreadAllocatedBytes();
+
+        private Probe() {
+        }
+
+        public TaskMetrics finish(long points) {
+            long wall = System.nanoTime() - startWall;
+            long cpuNow = currentThreadCpuNanos();
+            long allocNow = currentThreadAllocatedBytes();
+            long cpu = (startCpu < 0 || cpuNow < 0) ? -1 : cpuNow - startCpu;
+            long alloc = (startAlloc < 0 || allocNow < 0) ? -1 : allocNow - startAlloc;
+            return new TaskMetrics(threadId, points, wall, cpu, alloc);
+        }
+    }
+}
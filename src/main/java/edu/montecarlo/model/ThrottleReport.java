@@ -0,0 +1,74 @@
+package edu.montecarlo.model;
+
+/**
+ * Requested against achieved rate of a throttled run since the throttle was
+ * last set.
+ */
+public class ThrottleReport {
+    private final SimulationControl.ThrottleMode mode;
+    private final double requested;
+    private final double achieved;
+    private final long elapsedNanos;
+    private final long pacingWaits;
+    private final double meanOvershootNanos;
+    private final long maxOvershootNanos;
+
+    public ThrottleReport(SimulationControl.ThrottleMode mode, double requested, double achieved,
+                          long elapsedNanos, long pacingWaits,
+                          double meanOvershootNanos, long maxOvershootNanos) {
+        this.mode = mode;
+        this.requested = requested;
+        this.achieved = achieved;
+        this.elapsedNanos = elapsedNanos;
+        this.pacingWaits = pacingWaits;
+        this.meanOvershootNanos = meanOvershootNanos;
+        this.maxOvershootNanos = maxOvershootNanos;
+    }
+
+    public SimulationControl.ThrottleMode getMode() {
+        return mode;
+    }
+
+    /** Points per second, or the CPU fraction of the whole host. */
+    public double getRequested() {
+        return requested;
+    }
+
+    /** Same unit as {@link #getRequested()}. */
+    public double getAchieved() {
+        return achieved;
+    }
+
+    /** (achieved - requested) / requested. */
+    public double getDeviation() {
+        return (achieved - requested) / requested;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** Number of times a worker slept to stay under the cap. */
+    public long getPacingWaits() {
+        return pacingWaits;
+    }
+
+    /** Mean time a pacing sleep overran its deadline. */
+    public double getMeanOvershootNanos() {
+        return meanOvershootNanos;
+    }
+
+    public long getMaxOvershootNanos() {
+        return maxOvershootNanos;
+    }
+
+    @Override
+    public String toString() {
+        String unit = mode == SimulationControl.ThrottleMode.POINTS_PER_SECOND ? "pts/s" : "CPU";
+        String format = mode == SimulationControl.ThrottleMode.POINTS_PER_SECOND ? "%,.0f" : "%.3f";
+        return String.format("Throttle[%s requested=" + format + " achieved=" + format
+                        + " (%+.1f%%) over %.1f ms, %,d waits, overshoot mean %.1f µs max %.1f µs]",
+                unit, requested, achieved, getDeviation() * 100, elapsedNanos / 1e6,
+                pacingWaits, meanOvershootNanos / 1e3, maxOvershootNanos / 1e3);
+    }
+}
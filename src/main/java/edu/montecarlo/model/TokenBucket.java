@@ -0,0 +1,34 @@
+package edu.montecarlo.model;
+
+/**
+ * Token bucket shared by all workers of a throttled run. Tokens are in
+ * whatever unit is being capped (points or CPU nanoseconds).
+ *
+ * <p>Callers pay after the work is done and may drive the balance
+ * negative; {@link #reserve} then returns how long to wait until the debt
+ * is repaid. Waiting out the exact debt, rather than polling, keeps pacing
+ * smooth.
+ */
+class TokenBucket {
+    private final double ratePerSecond;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, double capacity) {
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /** Takes {@code cost} tokens and returns how many nanoseconds to wait, or 0. */
+    synchronized long reserve(double cost) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1e9 * ratePerSecond);
+        lastRefillNanos = now;
+
+        tokens -= cost;
+        return tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * 1e9);
+    }
+}
@@ -1,6 +1,8 @@
 module edu.montecarlo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
+    requires jdk.management;
 
     opens edu.montecarlo.gui to javafx.fxml;
 